@@ -0,0 +1,123 @@
+package com.cahcap.benchmark;
+
+import com.cahcap.common.registry.ModRegistries;
+import com.cahcap.common.util.HerbRegistry;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+
+import java.util.function.Supplier;
+
+/**
+ * Plain timing benchmark for HerbRegistry lookups against the supplier scan they replaced.
+ *
+ * Bootstraps the vanilla registries and points the six herb suppliers at vanilla items, since mod items are only
+ * registered by the loader. Queries mix herbs and non-herbs (every item in the registry), which is what block
+ * entities and item handlers see. Each case is warmed up before timing, and results are summed into a sink so the
+ * JIT cannot drop the work.
+ */
+public final class HerbRegistryBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int QUERIES_PER_ROUND = 2_000_000;
+
+    private static final Supplier<Item>[] SUPPLIERS = herbSuppliers();
+
+    private static long sink;
+
+    private HerbRegistryBenchmark() {}
+
+    public static void main(String[] args) {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        Item[] queries = BuiltInRegistries.ITEM.stream().toArray(Item[]::new);
+        String[] keys = {"herbalcurative:scaleplate", "herbalcurative:stellar_mote", "minecraft:stone"};
+
+        System.out.printf("%d query items, %d queries per round%n", queries.length, QUERIES_PER_ROUND);
+        run("getHerbIndex  (supplier scan)", () -> {
+            for (int i = 0; i < QUERIES_PER_ROUND; i++) sink += legacyGetHerbIndex(queries[i % queries.length]);
+        });
+        run("getHerbIndex  (identity map)", () -> {
+            for (int i = 0; i < QUERIES_PER_ROUND; i++) sink += HerbRegistry.getHerbIndex(queries[i % queries.length]);
+        });
+        run("isHerb        (supplier scan)", () -> {
+            for (int i = 0; i < QUERIES_PER_ROUND; i++) sink += legacyIsHerb(queries[i % queries.length]) ? 1 : 0;
+        });
+        run("isHerb        (identity map)", () -> {
+            for (int i = 0; i < QUERIES_PER_ROUND; i++) sink += HerbRegistry.isHerb(queries[i % queries.length]) ? 1 : 0;
+        });
+        run("keyContains   (substring scan)", () -> {
+            for (int i = 0; i < QUERIES_PER_ROUND; i++) sink += legacyGetHerbByKeyContains(keys[i % keys.length]) != null ? 1 : 0;
+        });
+        run("keyContains   (key map probe)", () -> {
+            for (int i = 0; i < QUERIES_PER_ROUND; i++) sink += HerbRegistry.getHerbByKeyContains(keys[i % keys.length]) != null ? 1 : 0;
+        });
+        System.out.println("sink " + sink);
+    }
+
+    private static void run(String name, Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run();
+        }
+        double nsPerQuery = (double) (System.nanoTime() - start) / ((long) MEASURED_ROUNDS * QUERIES_PER_ROUND);
+        System.out.printf("%-32s %8.2f ns/query%n", name, nsPerQuery);
+    }
+
+    // ==================== Previous implementation ====================
+
+    private static int legacyGetHerbIndex(Item herb) {
+        for (int i = 0; i < SUPPLIERS.length; i++) {
+            if (SUPPLIERS[i].get() == herb) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean legacyIsHerb(Item item) {
+        for (Supplier<Item> supplier : SUPPLIERS) {
+            if (supplier.get() == item) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Item legacyGetHerbByKeyContains(String key) {
+        for (int i = 0; i < HerbRegistry.getHerbCount(); i++) {
+            if (key.contains(HerbRegistry.getHerbKey(i))) {
+                return SUPPLIERS[i].get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stand-in herb items, wired into ModRegistries the way the mod loader module does it.
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<Item>[] herbSuppliers() {
+        ModRegistries.SCALEPLATE = () -> Items.WHEAT;
+        ModRegistries.DEWPETAL = () -> Items.POPPY;
+        ModRegistries.ZEPHYR_BLOSSOM = () -> Items.DANDELION;
+        ModRegistries.CRYST_SPINE = () -> Items.AMETHYST_SHARD;
+        ModRegistries.PYRO_NODE = () -> Items.BLAZE_POWDER;
+        ModRegistries.STELLAR_MOTE = () -> Items.GLOWSTONE_DUST;
+        return new Supplier[] {
+            () -> ModRegistries.SCALEPLATE.get(),
+            () -> ModRegistries.DEWPETAL.get(),
+            () -> ModRegistries.ZEPHYR_BLOSSOM.get(),
+            () -> ModRegistries.CRYST_SPINE.get(),
+            () -> ModRegistries.PYRO_NODE.get(),
+            () -> ModRegistries.STELLAR_MOTE.get()
+        };
+    }
+}
@@ -46,14 +46,13 @@ public class HerbCabinetRenderer implements BlockEntityRenderer<HerbCabinetBlock
     
     private void renderHerbIcons(HerbCabinetBlockEntity be, PoseStack poseStack, MultiBufferSource bufferSource,
                                   int packedLight, Direction facing) {
-        Item[] herbs = HerbRegistry.getAllHerbItems();
         Direction right = facing.getClockWise();
         ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
         
         for (int row = 0; row < 2; row++) {
             for (int col = 0; col < 3; col++) {
                 int index = row * 3 + (2 - col);
-                Item herb = herbs[index];
+                Item herb = HerbRegistry.getHerbByIndex(index);
                 int amount = be.getHerbAmount(herb);
                 
                 if (amount <= 0) {
@@ -42,7 +42,6 @@ public class HerbVaultRenderer implements BlockEntityRenderer<HerbVaultBlockEnti
 
     private void renderHerbIcons(HerbVaultBlockEntity be, PoseStack poseStack, MultiBufferSource bufferSource,
                                   int packedLight, Direction facing) {
-        Item[] herbs = HerbRegistry.getAllHerbItems();
         Direction right = facing.getClockWise();
         ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
 
@@ -54,7 +53,7 @@ public class HerbVaultRenderer implements BlockEntityRenderer<HerbVaultBlockEnti
         for (int row = 0; row < 2; row++) {
             for (int col = 0; col < 3; col++) {
                 int index = row * 3 + (2 - col);
-                Item herb = herbs[index];
+                Item herb = HerbRegistry.getHerbByIndex(index);
                 int amount = be.getHerbAmount(herb);
 
                 if (amount <= 0) continue;
@@ -83,6 +83,21 @@ public class CauldronBlock extends MultiblockPartBlock {
         return null;
     }
 
+    @Override
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock,
+                                   BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+        if (level.isClientSide || !state.getValue(FORMED) || !neighborPos.equals(pos.below())) return;
+
+        // Bottom-layer parts sit directly above the 3x3 heat source area
+        if (level.getBlockEntity(pos) instanceof CauldronBlockEntity be) {
+            CauldronBlockEntity master = be.getMaster();
+            if (master != null && master.getBlockPos().getY() == pos.getY()) {
+                be.markHeatSourceDirty();
+            }
+        }
+    }
+
     @Override
     protected ItemInteractionResult useItemOn(ItemStack stack, BlockState state, Level level, BlockPos pos,
                                                Player player, InteractionHand hand, BlockHitResult hitResult) {
@@ -79,13 +79,7 @@ public class HerbBasketBlock extends BaseEntityBlock {
      * @return 0 if not a valid herb, 1-6 for valid herbs
      */
     public static int getHerbTypeIndex(Item herb) {
-        Item[] herbs = HerbRegistry.getAllHerbItems();
-        for (int i = 0; i < herbs.length; i++) {
-            if (herbs[i] == herb) {
-                return i + 1; // 1-based index
-            }
-        }
-        return 0;
+        return HerbRegistry.getHerbIndex(herb) + 1; // 1-based index, -1 maps to 0
     }
     
     @Override
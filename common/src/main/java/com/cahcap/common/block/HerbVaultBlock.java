@@ -153,7 +153,7 @@ public class HerbVaultBlock extends MultiblockPartBlock {
         if (!isHitInGridCell(blockHit, pos, state.getValue(FACING), herbIndex)) return;
         if (herbIndex < 0 || herbIndex >= 6) return;
 
-        Item herb = HerbRegistry.getAllHerbItems()[herbIndex];
+        Item herb = HerbRegistry.getHerbByIndex(herbIndex);
         int amount = player.isShiftKeyDown() ? 64 : 1;
         int removed = be.removeHerb(herb, amount);
 
@@ -110,6 +110,17 @@ public class IncenseBurnerBlock extends BaseEntityBlock {
                 IncenseBurnerBlockEntity::serverTick);
     }
     
+    @Override
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock,
+                                   BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+        // The heat source sits below; re-check recipes only when it may have changed
+        if (!level.isClientSide && neighborPos.equals(pos.below())
+                && level.getBlockEntity(pos) instanceof IncenseBurnerBlockEntity burner) {
+            burner.markInputsDirty();
+        }
+    }
+    
     @Override
     protected ItemInteractionResult useItemOn(ItemStack stack, BlockState state, Level level, BlockPos pos,
                                                Player player, InteractionHand hand, BlockHitResult hitResult) {
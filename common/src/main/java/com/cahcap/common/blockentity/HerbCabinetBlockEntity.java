@@ -15,22 +15,25 @@ import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
     
     private static final int MAX_CAPACITY = 2048;
     
-    private final Map<Item, Integer> herbStorage = new HashMap<>();
+    // Stored amount per herb, indexed by HerbRegistry herb index
+    private final int[] herbStorage = new int[HerbRegistry.getHerbCount()];
+    // Per-slot stacks handed out by the item handler, kept in sync with herbStorage
+    private final ItemStack[] slotViews = new ItemStack[HerbRegistry.getHerbCount()];
     
     private final BlockEntityHelper.DoubleClickTracker doubleClickTracker = new BlockEntityHelper.DoubleClickTracker();
     
+    // Created once; delegates to the master on every call
+    private ItemHandlerCallback itemHandlerCallback;
+    
     public HerbCabinetBlockEntity(BlockPos pos, BlockState state) {
         super(getBlockEntityType(), pos, state, new int[]{2, 1, 3});
-        initializeStorage();
     }
     
     @SuppressWarnings("unchecked")
@@ -38,12 +41,6 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
         return (BlockEntityType<HerbCabinetBlockEntity>) ModRegistries.HERB_CABINET_BE.get();
     }
     
-    private void initializeStorage() {
-        for (Item herb : HerbRegistry.getAllHerbItems()) {
-            herbStorage.put(herb, 0);
-        }
-    }
-    
     @Override
     public HerbCabinetBlockEntity getMaster() {
         return super.getMaster();
@@ -54,7 +51,8 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
         if (master == null) {
             return 0;
         }
-        return master.herbStorage.getOrDefault(herb, 0);
+        int index = HerbRegistry.getHerbIndex(herb);
+        return index >= 0 ? master.herbStorage[index] : 0;
     }
     
     public int getHerbAmount(String herbKey) {
@@ -68,15 +66,16 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
             return 0;
         }
         
-        if (!master.herbStorage.containsKey(herb)) {
+        int index = HerbRegistry.getHerbIndex(herb);
+        if (index < 0) {
             return 0;
         }
         
-        int current = master.herbStorage.get(herb);
+        int current = master.herbStorage[index];
         int canAdd = Math.min(amount, MAX_CAPACITY - current);
         
         if (canAdd > 0) {
-            master.herbStorage.put(herb, current + canAdd);
+            master.setStored(index, current + canAdd);
             master.setChanged();
             master.syncToClient();
         }
@@ -95,15 +94,16 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
             return 0;
         }
         
-        if (!master.herbStorage.containsKey(herb)) {
+        int index = HerbRegistry.getHerbIndex(herb);
+        if (index < 0) {
             return 0;
         }
         
-        int current = master.herbStorage.get(herb);
+        int current = master.herbStorage[index];
         int canRemove = Math.min(amount, current);
         
         if (canRemove > 0) {
-            master.herbStorage.put(herb, current - canRemove);
+            master.setStored(index, current - canRemove);
             master.setChanged();
             master.syncToClient();
         }
@@ -145,8 +145,9 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
     protected void dropStoredItems(BlockPos masterPos) {
         HerbCabinetBlockEntity master = getMaster();
         if (master == null) return;
-        for (Item herb : getAllHerbItems()) {
-            int amount = master.getHerbAmount(herb);
+        for (int i = 0; i < master.herbStorage.length; i++) {
+            Item herb = HerbRegistry.getHerbByIndex(i);
+            int amount = master.herbStorage[i];
             while (amount > 0) {
                 int stackSize = Math.min(amount, 64);
                 ItemStack stack = new ItemStack(herb, stackSize);
@@ -183,10 +184,6 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
         return renderAABB;
     }
 
-    public static Item[] getAllHerbItems() {
-        return HerbRegistry.getAllHerbItems();
-    }
-
     public static boolean isHerb(Item item) {
         return HerbRegistry.isHerb(item);
     }
@@ -237,9 +234,10 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
         super.saveAdditional(tag, registries);
         
         if (isMaster()) {
-            for (Item herb : getAllHerbItems()) {
+            for (int i = 0; i < herbStorage.length; i++) {
+                Item herb = HerbRegistry.getHerbByIndex(i);
                 String key = "Herb_" + herb.builtInRegistryHolder().key().location().toString();
-                tag.putInt(key, herbStorage.getOrDefault(herb, 0));
+                tag.putInt(key, herbStorage[i]);
             }
         }
     }
@@ -249,10 +247,11 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
         super.loadAdditional(tag, registries);
         
         if (isMaster()) {
-            for (Item herb : getAllHerbItems()) {
+            for (int i = 0; i < herbStorage.length; i++) {
+                Item herb = HerbRegistry.getHerbByIndex(i);
                 String key = "Herb_" + herb.builtInRegistryHolder().key().location().toString();
                 if (tag.contains(key)) {
-                    herbStorage.put(herb, tag.getInt(key));
+                    setStored(i, tag.getInt(key));
                 }
             }
         }
@@ -275,6 +274,37 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
      * Used by mod loader capabilities system
      */
     public ItemHandlerCallback getItemHandlerCallback() {
+        if (itemHandlerCallback == null) {
+            itemHandlerCallback = createItemHandlerCallback();
+        }
+        return itemHandlerCallback;
+    }
+    
+    private void setStored(int index, int amount) {
+        herbStorage[index] = amount;
+        ItemStack view = slotViews[index];
+        if (view != null) {
+            view.setCount(amount);
+        }
+    }
+    
+    /**
+     * Read-only stack for the given slot, reused across calls and updated in place when the count changes.
+     */
+    private ItemStack getSlotView(int slot) {
+        int amount = herbStorage[slot];
+        if (amount <= 0) {
+            return ItemStack.EMPTY;
+        }
+        ItemStack view = slotViews[slot];
+        if (view == null) {
+            view = new ItemStack(HerbRegistry.getHerbByIndex(slot), amount);
+            slotViews[slot] = view;
+        }
+        return view;
+    }
+    
+    private ItemHandlerCallback createItemHandlerCallback() {
         return new ItemHandlerCallback() {
             @Override
             public ItemStack getStackInSlot(int slot) {
@@ -287,14 +317,7 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
                     return ItemStack.EMPTY;
                 }
                 
-                Item herb = getAllHerbItems()[slot];
-                int amount = master.getHerbAmount(herb);
-                
-                if (amount <= 0) {
-                    return ItemStack.EMPTY;
-                }
-                
-                return new ItemStack(herb, amount);
+                return master.getSlotView(slot);
             }
             
             @Override
@@ -303,8 +326,8 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
                     return ItemStack.EMPTY;
                 }
                 
-                Item item = stack.getItem();
-                if (!isHerb(item)) {
+                int index = HerbRegistry.getHerbIndex(stack.getItem());
+                if (index < 0) {
                     return stack;
                 }
                 
@@ -317,20 +340,20 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
                 int inserted;
                 
                 if (simulate) {
-                    int current = master.getHerbAmount(item);
-                    int space = MAX_CAPACITY - current;
-                    inserted = Math.min(toInsert, space);
+                    // Read-only: no state change, no sync
+                    inserted = Math.min(toInsert, MAX_CAPACITY - master.herbStorage[index]);
                 } else {
-                    inserted = master.addHerb(item, toInsert);
+                    inserted = master.addHerb(stack.getItem(), toInsert);
                 }
                 
                 if (inserted >= toInsert) {
                     return ItemStack.EMPTY;
                 }
+                if (inserted <= 0) {
+                    return stack;
+                }
                 
-                ItemStack remainder = stack.copy();
-                remainder.setCount(toInsert - inserted);
-                return remainder;
+                return stack.copyWithCount(toInsert - inserted);
             }
             
             @Override
@@ -344,13 +367,12 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
                     return ItemStack.EMPTY;
                 }
                 
-                Item herb = getAllHerbItems()[slot];
-                int stored = master.getHerbAmount(herb);
-                
+                int stored = master.herbStorage[slot];
                 if (stored <= 0) {
                     return ItemStack.EMPTY;
                 }
                 
+                Item herb = HerbRegistry.getHerbByIndex(slot);
                 int toExtract = Math.min(amount, stored);
                 
                 if (!simulate) {
@@ -372,4 +394,3 @@ public class HerbCabinetBlockEntity extends MultiblockPartBlockEntity {
         };
     }
 }
-
@@ -1,5 +1,6 @@
 package com.cahcap.common.blockentity;
 
+import com.cahcap.common.network.ProgressSyncable;
 import com.cahcap.common.recipe.HerbPotGrowingRecipe;
 import com.cahcap.common.util.BlockEntityHelper;
 import com.cahcap.common.util.HerbRegistry;
@@ -44,7 +45,7 @@ import java.util.*;
  * - Drop output when growth completes
  * - Seedling is NOT consumed
  */
-public class HerbPotBlockEntity extends BlockEntity {
+public class HerbPotBlockEntity extends BlockEntity implements ProgressSyncable {
 
     /**
      * States of the herb pot growth process.
@@ -64,6 +65,8 @@ public class HerbPotBlockEntity extends BlockEntity {
     private final Map<Item, Integer> herbSlots = new LinkedHashMap<>();
 
     private Set<Item> cachedAcceptedHerbs = null;
+    // Set when soil, seedling or herbs change; recipes are only evaluated while set (starts set after load)
+    private boolean inputsDirty = true;
 
     private GrowthState growthState = GrowthState.IDLE;
     private int growthTicks = 0;
@@ -162,6 +165,13 @@ public class HerbPotBlockEntity extends BlockEntity {
         cachedAcceptedHerbs = null;
     }
 
+    /**
+     * Request a recipe check on the next server tick.
+     */
+    public void markInputsDirty() {
+        inputsDirty = true;
+    }
+
     private void ejectInvalidHerbs() {
         if (level == null || level.isClientSide) return;
         Set<Item> accepted = getAcceptedHerbs();
@@ -243,6 +253,7 @@ public class HerbPotBlockEntity extends BlockEntity {
         }
         setChanged();
         syncToClient();
+        markInputsDirty();
         return true;
     }
     
@@ -257,7 +268,7 @@ public class HerbPotBlockEntity extends BlockEntity {
         setChanged();
         syncToClient();
         ejectInvalidHerbs();
-        checkAndStartGrowth();
+        markInputsDirty();
         return true;
     }
     
@@ -280,7 +291,7 @@ public class HerbPotBlockEntity extends BlockEntity {
         
         setChanged();
         syncToClient();
-        checkAndStartGrowth();
+        markInputsDirty();
         return canAdd;
     }
     
@@ -409,7 +420,10 @@ public class HerbPotBlockEntity extends BlockEntity {
     
     public static void serverTick(Level level, BlockPos pos, BlockState state, HerbPotBlockEntity blockEntity) {
         if (blockEntity.growthState != GrowthState.GROWING) {
-            blockEntity.checkAndStartGrowth();
+            if (blockEntity.inputsDirty) {
+                blockEntity.inputsDirty = false;
+                blockEntity.checkAndStartGrowth();
+            }
             return;
         }
 
@@ -435,7 +449,7 @@ public class HerbPotBlockEntity extends BlockEntity {
             
             blockEntity.checkAndStartGrowth();
         } else if (blockEntity.growthTicks % 20 == 0) {
-            blockEntity.syncToClient();
+            BlockEntityHelper.syncProgressToClient(blockEntity);
         }
     }
     
@@ -533,4 +547,17 @@ public class HerbPotBlockEntity extends BlockEntity {
     public ItemStack onFlowweaveRingShiftUse(Player player) {
         return removeSeedlingOrSoil();
     }
+
+    @Override
+    public int[] writeProgress() {
+        return new int[] {growthTicks, totalGrowthTicks};
+    }
+
+    @Override
+    public void readProgress(int[] values) {
+        if (values.length == 2) {
+            growthTicks = values[0];
+            totalGrowthTicks = values[1];
+        }
+    }
 }
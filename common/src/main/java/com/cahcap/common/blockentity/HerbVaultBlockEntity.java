@@ -19,9 +19,7 @@ import net.minecraft.world.level.block.state.properties.SlabType;
 import net.minecraft.world.phys.AABB;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -32,13 +30,18 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
 
     private static final int MAX_CAPACITY = 8192;
 
-    private final Map<Item, Integer> herbStorage = new HashMap<>();
+    // Stored amount per herb, indexed by HerbRegistry herb index
+    private final int[] herbStorage = new int[HerbRegistry.getHerbCount()];
+    // Per-slot stacks handed out by the item handler, kept in sync with herbStorage
+    private final ItemStack[] slotViews = new ItemStack[HerbRegistry.getHerbCount()];
 
     private final BlockEntityHelper.DoubleClickTracker doubleClickTracker = new BlockEntityHelper.DoubleClickTracker();
 
+    // Created once; delegates to the master on every call
+    private HerbCabinetBlockEntity.ItemHandlerCallback itemHandlerCallback;
+
     public HerbVaultBlockEntity(BlockPos pos, BlockState state) {
         super(getBlockEntityType(), pos, state, new int[]{3, 3, 3});
-        initializeStorage();
     }
 
     @SuppressWarnings("unchecked")
@@ -46,12 +49,6 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
         return (BlockEntityType<HerbVaultBlockEntity>) ModRegistries.HERB_VAULT_BE.get();
     }
 
-    private void initializeStorage() {
-        for (Item herb : HerbRegistry.getAllHerbItems()) {
-            herbStorage.put(herb, 0);
-        }
-    }
-
     @Override
     public HerbVaultBlockEntity getMaster() {
         return super.getMaster();
@@ -60,7 +57,8 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
     public int getHerbAmount(Item herb) {
         HerbVaultBlockEntity master = getMaster();
         if (master == null) return 0;
-        return master.herbStorage.getOrDefault(herb, 0);
+        int index = HerbRegistry.getHerbIndex(herb);
+        return index >= 0 ? master.herbStorage[index] : 0;
     }
 
     public int getHerbAmount(String herbKey) {
@@ -76,13 +74,14 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
     public int addHerb(Item herb, int amount) {
         HerbVaultBlockEntity master = getMaster();
         if (master == null) return 0;
-        if (!master.herbStorage.containsKey(herb)) return 0;
+        int index = HerbRegistry.getHerbIndex(herb);
+        if (index < 0) return 0;
 
-        int current = master.herbStorage.get(herb);
+        int current = master.herbStorage[index];
         int canAdd = Math.min(amount, MAX_CAPACITY - current);
 
         if (canAdd > 0) {
-            master.herbStorage.put(herb, current + canAdd);
+            master.setStored(index, current + canAdd);
             master.setChanged();
             master.syncToClient();
         }
@@ -97,13 +96,14 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
     public int removeHerb(Item herb, int amount) {
         HerbVaultBlockEntity master = getMaster();
         if (master == null) return 0;
-        if (!master.herbStorage.containsKey(herb)) return 0;
+        int index = HerbRegistry.getHerbIndex(herb);
+        if (index < 0) return 0;
 
-        int current = master.herbStorage.get(herb);
+        int current = master.herbStorage[index];
         int canRemove = Math.min(amount, current);
 
         if (canRemove > 0) {
-            master.herbStorage.put(herb, current - canRemove);
+            master.setStored(index, current - canRemove);
             master.setChanged();
             master.syncToClient();
         }
@@ -171,8 +171,9 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
     protected void dropStoredItems(BlockPos masterPos) {
         HerbVaultBlockEntity master = getMaster();
         if (master == null) return;
-        for (Item herb : HerbRegistry.getAllHerbItems()) {
-            int amount = master.getHerbAmount(herb);
+        for (int i = 0; i < master.herbStorage.length; i++) {
+            Item herb = HerbRegistry.getHerbByIndex(i);
+            int amount = master.herbStorage[i];
             while (amount > 0) {
                 int stackSize = Math.min(amount, 64);
                 ItemStack stack = new ItemStack(herb, stackSize);
@@ -289,30 +290,57 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
      * Item handler callback for automation (hoppers, pipes, drawers).
      */
     public HerbCabinetBlockEntity.ItemHandlerCallback getItemHandlerCallback() {
+        if (itemHandlerCallback == null) {
+            itemHandlerCallback = createItemHandlerCallback();
+        }
+        return itemHandlerCallback;
+    }
+
+    private void setStored(int index, int amount) {
+        herbStorage[index] = amount;
+        ItemStack view = slotViews[index];
+        if (view != null) view.setCount(Math.min(amount, 64));
+    }
+
+    /**
+     * Read-only stack for the given slot (capped at 64), reused across calls and updated in place.
+     */
+    private ItemStack getSlotView(int slot) {
+        int amount = herbStorage[slot];
+        if (amount <= 0) return ItemStack.EMPTY;
+        ItemStack view = slotViews[slot];
+        if (view == null) {
+            view = new ItemStack(HerbRegistry.getHerbByIndex(slot), Math.min(amount, 64));
+            slotViews[slot] = view;
+        }
+        return view;
+    }
+
+    private HerbCabinetBlockEntity.ItemHandlerCallback createItemHandlerCallback() {
         return new HerbCabinetBlockEntity.ItemHandlerCallback() {
             @Override
             public ItemStack getStackInSlot(int slot) {
                 if (slot < 0 || slot >= 6) return ItemStack.EMPTY;
                 HerbVaultBlockEntity master = getMaster();
                 if (master == null) return ItemStack.EMPTY;
-                Item herb = HerbRegistry.getAllHerbItems()[slot];
-                int amount = master.getHerbAmount(herb);
-                return amount <= 0 ? ItemStack.EMPTY : new ItemStack(herb, Math.min(amount, 64));
+                return master.getSlotView(slot);
             }
 
             @Override
             public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
-                if (stack.isEmpty() || !HerbRegistry.isHerb(stack.getItem())) return stack;
+                if (stack.isEmpty()) return stack;
+                int index = HerbRegistry.getHerbIndex(stack.getItem());
+                if (index < 0) return stack;
                 HerbVaultBlockEntity master = getMaster();
                 if (master == null) return stack;
                 int toInsert = stack.getCount();
+                // Simulation only reads the stored count: no state change, no sync
                 int inserted = simulate ?
-                        Math.min(toInsert, MAX_CAPACITY - master.getHerbAmount(stack.getItem())) :
+                        Math.min(toInsert, MAX_CAPACITY - master.herbStorage[index]) :
                         master.addHerb(stack.getItem(), toInsert);
                 if (inserted >= toInsert) return ItemStack.EMPTY;
-                ItemStack remainder = stack.copy();
-                remainder.setCount(toInsert - inserted);
-                return remainder;
+                if (inserted <= 0) return stack;
+                return stack.copyWithCount(toInsert - inserted);
             }
 
             @Override
@@ -320,9 +348,9 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
                 if (slot < 0 || slot >= 6 || amount <= 0) return ItemStack.EMPTY;
                 HerbVaultBlockEntity master = getMaster();
                 if (master == null) return ItemStack.EMPTY;
-                Item herb = HerbRegistry.getAllHerbItems()[slot];
-                int stored = master.getHerbAmount(herb);
+                int stored = master.herbStorage[slot];
                 if (stored <= 0) return ItemStack.EMPTY;
+                Item herb = HerbRegistry.getHerbByIndex(slot);
                 int toExtract = Math.min(amount, stored);
                 if (!simulate) master.removeHerb(herb, toExtract);
                 return new ItemStack(herb, toExtract);
@@ -342,9 +370,10 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
     protected void saveAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.saveAdditional(tag, registries);
         if (isMaster()) {
-            for (Item herb : HerbRegistry.getAllHerbItems()) {
+            for (int i = 0; i < herbStorage.length; i++) {
+                Item herb = HerbRegistry.getHerbByIndex(i);
                 String key = "Herb_" + herb.builtInRegistryHolder().key().location().toString();
-                tag.putInt(key, herbStorage.getOrDefault(herb, 0));
+                tag.putInt(key, herbStorage[i]);
             }
         }
     }
@@ -353,10 +382,11 @@ public class HerbVaultBlockEntity extends MultiblockPartBlockEntity {
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.loadAdditional(tag, registries);
         if (isMaster()) {
-            for (Item herb : HerbRegistry.getAllHerbItems()) {
+            for (int i = 0; i < herbStorage.length; i++) {
+                Item herb = HerbRegistry.getHerbByIndex(i);
                 String key = "Herb_" + herb.builtInRegistryHolder().key().location().toString();
                 if (tag.contains(key)) {
-                    herbStorage.put(herb, tag.getInt(key));
+                    setStored(i, tag.getInt(key));
                 }
             }
         }
@@ -1,6 +1,7 @@
 package com.cahcap.common.blockentity;
 
 import com.cahcap.common.block.IncenseBurnerBlock;
+import com.cahcap.common.network.ProgressSyncable;
 import com.cahcap.common.util.BlockEntityHelper;
 import com.cahcap.common.util.HerbRegistry;
 import com.cahcap.common.item.IncensePowderItem;
@@ -57,7 +58,7 @@ import java.util.*;
  * - Spawn mob when burning completes (8 seconds)
  * - Powder is NOT consumed
  */
-public class IncenseBurnerBlockEntity extends BlockEntity {
+public class IncenseBurnerBlockEntity extends BlockEntity implements ProgressSyncable {
     
     public static final int MAX_HERB_PER_TYPE = 64;
     public static final int MAX_HERB_TYPES = 6;
@@ -67,6 +68,8 @@ public class IncenseBurnerBlockEntity extends BlockEntity {
     private final Map<Item, Integer> herbSlots = new LinkedHashMap<>();
 
     private Set<Item> cachedAcceptedHerbs = null;
+    // Set when powder, herbs or the block below change; recipes are only evaluated while set (starts set after load)
+    private boolean inputsDirty = true;
     
     private boolean isBurning = false;
     private int burnTicks = 0;
@@ -136,6 +139,14 @@ public class IncenseBurnerBlockEntity extends BlockEntity {
         cachedAcceptedHerbs = null;
     }
 
+    /**
+     * Request a recipe check on the next server tick.
+     * Called when inputs change and by the block when the block below (heat source) changes.
+     */
+    public void markInputsDirty() {
+        inputsDirty = true;
+    }
+
     private void ejectInvalidHerbs() {
         if (level == null || level.isClientSide) return;
         Set<Item> accepted = getAcceptedHerbs();
@@ -183,7 +194,7 @@ public class IncenseBurnerBlockEntity extends BlockEntity {
         setChanged();
         syncToClient();
         ejectInvalidHerbs();
-        checkAndStartBurning();
+        markInputsDirty();
         return true;
     }
     
@@ -206,7 +217,7 @@ public class IncenseBurnerBlockEntity extends BlockEntity {
         
         setChanged();
         syncToClient();
-        checkAndStartBurning();
+        markInputsDirty();
         return canAdd;
     }
     
@@ -345,7 +356,10 @@ public class IncenseBurnerBlockEntity extends BlockEntity {
     
     public static void serverTick(Level level, BlockPos pos, BlockState state, IncenseBurnerBlockEntity blockEntity) {
         if (!blockEntity.isBurning) {
-            blockEntity.checkAndStartBurning();
+            if (blockEntity.inputsDirty) {
+                blockEntity.inputsDirty = false;
+                blockEntity.checkAndStartBurning();
+            }
             return;
         }
         
@@ -405,7 +419,7 @@ public class IncenseBurnerBlockEntity extends BlockEntity {
             // Check if can start another burn cycle
             blockEntity.checkAndStartBurning();
         } else if (blockEntity.burnTicks % 20 == 0) {
-            blockEntity.syncToClient();
+            BlockEntityHelper.syncProgressToClient(blockEntity);
         }
     }
     
@@ -484,6 +498,19 @@ public class IncenseBurnerBlockEntity extends BlockEntity {
         BlockEntityHelper.syncToClient(this);
     }
     
+    @Override
+    public int[] writeProgress() {
+        return new int[] {burnTicks, totalBurnTicks};
+    }
+
+    @Override
+    public void readProgress(int[] values) {
+        if (values.length == 2) {
+            burnTicks = values[0];
+            totalBurnTicks = values[1];
+        }
+    }
+
     /**
      * Called when player shift+right-clicks with Flowweave Ring.
      * Removes powder.
@@ -1,8 +1,12 @@
 package com.cahcap.common.blockentity;
 
 import com.cahcap.common.block.KilnBlock;
+import com.cahcap.common.config.CommonConfig;
+import com.cahcap.common.network.ProgressSyncable;
+import com.cahcap.common.util.BlockEntityHelper;
 import com.cahcap.common.recipe.KilnCatalystRecipe;
-import com.cahcap.common.recipe.KilnSmeltingRecipe;
+import com.cahcap.common.recipe.KilnCatalystRecipeIndex;
+import com.cahcap.common.recipe.KilnSmeltingResultCache;
 import com.cahcap.common.util.ItemTransferHelper;
 import com.cahcap.common.registry.ModRegistries;
 import net.minecraft.world.level.block.Block;
@@ -12,17 +16,13 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
-import net.minecraft.world.item.crafting.RecipeType;
-import net.minecraft.world.item.crafting.SmeltingRecipe;
-import net.minecraft.world.item.crafting.SingleRecipeInput;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.SlabBlock;
@@ -48,7 +48,7 @@ import java.util.Optional;
  *   - Back side: input catalysts
  * - Hopper/pipe support via IItemHandler capability
  */
-public class KilnBlockEntity extends MultiblockPartBlockEntity {
+public class KilnBlockEntity extends MultiblockPartBlockEntity implements ProgressSyncable {
 
     // Smelting time in ticks (same as vanilla furnace: 200 ticks = 10 seconds)
     public static final int SMELT_TIME = 200;
@@ -61,6 +61,17 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
     private ItemStack catalystSlot = ItemStack.EMPTY;
     private ItemStack outputSlot = ItemStack.EMPTY;
 
+    // Auto I/O sides, indexing ioConnections
+    private static final int IO_INPUT = 0;
+    private static final int IO_CATALYST = 1;
+    private static final int IO_OUTPUT = 2;
+
+    // Cached container connections for auto I/O (master only, server only)
+    private final ItemTransferHelper.Connection[] ioConnections = new ItemTransferHelper.Connection[3];
+    // Per-side poll interval (doubles after every idle poll) and the game time of the next poll
+    private final int[] ioIntervals = {AUTO_IO_INTERVAL, AUTO_IO_INTERVAL, AUTO_IO_INTERVAL};
+    private final long[] ioNextPoll = new long[3];
+
     // Smelting state
     private int smeltProgress = 0;
     private boolean isSmelting = false;
@@ -72,6 +83,11 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
     private int currentCatalystSpeedMultiplier = 1;
     // Whether the current input is affected by catalyst output multiplier
     private boolean inputAffectedByCatalyst = false;
+    // Recipe id of the catalyst whose uses are being consumed (saved to NBT),
+    // plus the resolved entry and the index it was resolved from (re-resolved after recipe reloads)
+    private ResourceLocation activeCatalystId = null;
+    private KilnCatalystRecipeIndex.Catalyst activeCatalyst = null;
+    private KilnCatalystRecipeIndex activeCatalystIndex = null;
 
     public KilnBlockEntity(BlockPos pos, BlockState state) {
         super(getBlockEntityType(), pos, state, new int[]{3, 3, 3});
@@ -135,45 +151,49 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
      */
     public boolean isCatalyst(ItemStack stack) {
         if (level == null || stack.isEmpty()) return false;
-        return findCatalystRecipe(level, stack).isPresent();
+        return findCatalyst(level, stack) != null;
     }
 
     /**
      * Find the catalyst recipe matching the given item stack.
      */
-    private static Optional<KilnCatalystRecipe> findCatalystRecipe(Level level, ItemStack stack) {
-        if (stack.isEmpty()) return Optional.empty();
-        SingleRecipeInput input = new SingleRecipeInput(stack);
-        return level.getRecipeManager()
-                .getRecipeFor(ModRegistries.KILN_CATALYST_RECIPE_TYPE.get(), input, level)
-                .map(RecipeHolder::value);
+    private static KilnCatalystRecipeIndex.Catalyst findCatalyst(Level level, ItemStack stack) {
+        if (stack.isEmpty()) return null;
+        return KilnCatalystRecipeIndex.get(level.getRecipeManager()).findFor(stack);
     }
 
     /**
-     * Check if the current input is affected by the active catalyst's output multiplier.
-     * Searches all catalyst recipes to find any that match the catalyst slot or have remaining uses.
+     * Get the catalyst whose remaining uses are being consumed, resolved from its saved recipe id.
+     * Kilns saved before the id was persisted fall back once to matching the stored multipliers.
      */
-    private boolean checkInputAffected(Level level, ItemStack smeltInput) {
-        // Try to find the recipe from catalyst slot first
-        if (!catalystSlot.isEmpty()) {
-            Optional<KilnCatalystRecipe> recipe = findCatalystRecipe(level, catalystSlot);
-            if (recipe.isPresent()) {
-                return recipe.get().isInputAffected(smeltInput);
-            }
-        }
-        // Catalyst slot empty but uses remaining: search all catalyst recipes
-        // to find one whose affectedInputs matches our smelt input.
-        // Since we store the multiplier from the original recipe, use that to infer.
-        // For simplicity, iterate all catalyst recipes.
-        for (RecipeHolder<KilnCatalystRecipe> holder : level.getRecipeManager()
-                .getAllRecipesFor(ModRegistries.KILN_CATALYST_RECIPE_TYPE.get())) {
-            KilnCatalystRecipe recipe = holder.value();
-            if (recipe.getOutputMultiplier() == currentCatalystOutputMultiplier
-                    && recipe.getSpeedMultiplier() == currentCatalystSpeedMultiplier) {
-                return recipe.isInputAffected(smeltInput);
+    private KilnCatalystRecipeIndex.Catalyst getActiveCatalyst(Level level) {
+        KilnCatalystRecipeIndex index = KilnCatalystRecipeIndex.get(level.getRecipeManager());
+        if (activeCatalystIndex != index) {
+            activeCatalystIndex = index;
+            if (activeCatalystId != null) {
+                activeCatalyst = index.byId(activeCatalystId);
+            } else if (catalystUsesRemaining > 0) {
+                activeCatalyst = index.findByMultipliers(currentCatalystOutputMultiplier, currentCatalystSpeedMultiplier);
+                activeCatalystId = activeCatalyst != null ? activeCatalyst.id() : null;
+            } else {
+                activeCatalyst = null;
             }
         }
-        return false;
+        return activeCatalyst;
+    }
+
+    private void setActiveCatalyst(KilnCatalystRecipeIndex.Catalyst catalyst) {
+        activeCatalyst = catalyst;
+        activeCatalystId = catalyst != null ? catalyst.id() : null;
+        activeCatalystIndex = level != null ? KilnCatalystRecipeIndex.get(level.getRecipeManager()) : null;
+    }
+
+    /**
+     * Check if the current input is affected by the active catalyst's output multiplier.
+     */
+    private boolean checkInputAffected(Level level, ItemStack smeltInput) {
+        KilnCatalystRecipeIndex.Catalyst catalyst = getActiveCatalyst(level);
+        return catalyst != null && catalyst.isInputAffected(smeltInput);
     }
 
     /**
@@ -188,6 +208,7 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
             int toAdd = Math.min(stack.getCount(), stack.getMaxStackSize());
             master.inputSlot = stack.copyWithCount(toAdd);
             if (!isCreative) stack.shrink(toAdd);
+            master.resetAutoIOBackoff(IO_INPUT);
             master.setChanged();
             master.syncToClient();
             return toAdd;
@@ -197,6 +218,7 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
             if (canAdd <= 0) return 0;
             master.inputSlot.grow(canAdd);
             if (!isCreative) stack.shrink(canAdd);
+            master.resetAutoIOBackoff(IO_INPUT);
             master.setChanged();
             master.syncToClient();
             return canAdd;
@@ -222,6 +244,7 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
         }
 
         if (!isCreative) stack.shrink(canAdd);
+        master.resetAutoIOBackoff(IO_CATALYST);
         master.setChanged();
         master.syncToClient();
         return canAdd;
@@ -233,6 +256,7 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
 
         ItemStack extracted = master.inputSlot.copy();
         master.inputSlot = ItemStack.EMPTY;
+        master.resetAutoIOBackoff(IO_INPUT);
         master.setChanged();
         master.syncToClient();
         return extracted;
@@ -244,6 +268,7 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
 
         ItemStack extracted = master.catalystSlot.copy();
         master.catalystSlot = ItemStack.EMPTY;
+        master.resetAutoIOBackoff(IO_CATALYST);
         master.setChanged();
         master.syncToClient();
         return extracted;
@@ -255,6 +280,7 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
 
         ItemStack extracted = master.outputSlot.copy();
         master.outputSlot = ItemStack.EMPTY;
+        master.resetAutoIOBackoff(IO_OUTPUT);
         master.setChanged();
         master.syncToClient();
         return extracted;
@@ -324,18 +350,20 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
                     // Re-check if input is affected (input may have changed)
                     blockEntity.inputAffectedByCatalyst = blockEntity.checkInputAffected(level, blockEntity.inputSlot);
                 } else if (!blockEntity.catalystSlot.isEmpty()) {
-                    Optional<KilnCatalystRecipe> catalystRecipe = findCatalystRecipe(level, blockEntity.catalystSlot);
-                    if (catalystRecipe.isPresent()) {
-                        KilnCatalystRecipe recipe = catalystRecipe.get();
+                    KilnCatalystRecipeIndex.Catalyst catalyst = findCatalyst(level, blockEntity.catalystSlot);
+                    if (catalyst != null) {
+                        KilnCatalystRecipe recipe = catalyst.recipe();
                         blockEntity.catalyzed = true;
                         blockEntity.catalystSlot.shrink(1);
                         if (blockEntity.catalystSlot.isEmpty()) {
                             blockEntity.catalystSlot = ItemStack.EMPTY;
                         }
+                        blockEntity.resetAutoIOBackoff(IO_CATALYST);
                         blockEntity.catalystUsesRemaining = recipe.getUsesPerItem();
                         blockEntity.currentCatalystOutputMultiplier = recipe.getOutputMultiplier();
                         blockEntity.currentCatalystSpeedMultiplier = recipe.getSpeedMultiplier();
-                        blockEntity.inputAffectedByCatalyst = recipe.isInputAffected(blockEntity.inputSlot);
+                        blockEntity.setActiveCatalyst(catalyst);
+                        blockEntity.inputAffectedByCatalyst = catalyst.isInputAffected(blockEntity.inputSlot);
                     } else {
                         blockEntity.catalyzed = false;
                     }
@@ -365,6 +393,9 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
                             output.setCount(output.getCount() * blockEntity.currentCatalystOutputMultiplier);
                         }
                         blockEntity.catalystUsesRemaining--;
+                        if (blockEntity.catalystUsesRemaining <= 0) {
+                            blockEntity.setActiveCatalyst(null);
+                        }
                     }
 
                     // Place in output slot
@@ -379,6 +410,8 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
                     if (blockEntity.inputSlot.isEmpty()) {
                         blockEntity.inputSlot = ItemStack.EMPTY;
                     }
+                    blockEntity.resetAutoIOBackoff(IO_INPUT);
+                    blockEntity.resetAutoIOBackoff(IO_OUTPUT);
                 }
 
                 blockEntity.isSmelting = false;
@@ -394,28 +427,17 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
                 blockEntity.setChanged();
                 blockEntity.syncToClient();
             } else if (blockEntity.smeltProgress % 40 == 0) {
-                blockEntity.syncToClient();
+                BlockEntityHelper.syncProgressToClient(blockEntity);
             }
         }
     }
 
+    /**
+     * Resolve the smelting result through the shared result cache.
+     * The returned stack is shared and must be copied before modification.
+     */
     private static Optional<ItemStack> getSmeltingResult(Level level, ItemStack input) {
-        if (input.isEmpty()) return Optional.empty();
-
-        RecipeManager recipeManager = level.getRecipeManager();
-        SingleRecipeInput recipeInput = new SingleRecipeInput(input);
-
-        // First try custom kiln recipes
-        Optional<RecipeHolder<KilnSmeltingRecipe>> kilnRecipe = recipeManager.getRecipeFor(
-                ModRegistries.KILN_SMELTING_RECIPE_TYPE.get(), recipeInput, level);
-        if (kilnRecipe.isPresent()) {
-            return Optional.of(kilnRecipe.get().value().getResultItem(level.registryAccess()));
-        }
-
-        // Fall back to vanilla smelting recipes
-        Optional<RecipeHolder<SmeltingRecipe>> smeltingRecipe = recipeManager.getRecipeFor(
-                RecipeType.SMELTING, recipeInput, level);
-        return smeltingRecipe.map(r -> r.value().getResultItem(level.registryAccess()));
+        return KilnSmeltingResultCache.getResult(level, input);
     }
 
     private static boolean canOutput(KilnBlockEntity be, ItemStack result) {
@@ -426,8 +448,8 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
         if (be.catalystUsesRemaining > 0) {
             multiplier = be.currentCatalystOutputMultiplier;
         } else if (!be.catalystSlot.isEmpty() && be.level != null) {
-            Optional<KilnCatalystRecipe> recipe = findCatalystRecipe(be.level, be.catalystSlot);
-            multiplier = recipe.map(KilnCatalystRecipe::getOutputMultiplier).orElse(1);
+            KilnCatalystRecipeIndex.Catalyst catalyst = findCatalyst(be.level, be.catalystSlot);
+            multiplier = catalyst != null ? catalyst.recipe().getOutputMultiplier() : 1;
         }
         int outputCount = result.getCount() * multiplier;
         return be.outputSlot.getCount() + outputCount <= be.outputSlot.getMaxStackSize();
@@ -436,80 +458,150 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
     // ==================== Auto I/O ====================
 
     private void handleAutoIO(Level level) {
-        if (ItemTransferHelper.INSTANCE == null) return;
+        if (ItemTransferHelper.INSTANCE == null || !(level instanceof ServerLevel serverLevel)) return;
 
         Direction front = getFacing();
         Direction right = isMirrored() ? front.getCounterClockWise() : front.getClockWise();
         Direction left = isMirrored() ? front.getClockWise() : front.getCounterClockWise();
         Direction back = front.getOpposite();
+        long gameTime = level.getGameTime();
 
         // Auto I/O positions: adjacent to the Layer 1 center block (one block below master).
         // Layer 1 center = master.below(), container is 2 blocks out (1 = structure edge, 1 = container)
         BlockPos layer1Center = worldPosition.below();
 
         // Right side of front: auto-input materials
-        BlockPos inputPos = layer1Center.relative(right, 2);
-        autoInputFrom(level, inputPos, right.getOpposite());
+        if (gameTime >= ioNextPoll[IO_INPUT]) {
+            BlockPos inputPos = layer1Center.relative(right, 2);
+            boolean moved = autoInputFrom(level, getIoConnection(serverLevel, IO_INPUT, inputPos, right.getOpposite()));
+            scheduleNextPoll(IO_INPUT, gameTime, moved);
+        }
 
         // Back side: auto-input catalysts
-        BlockPos catalystPos = layer1Center.relative(back, 2);
-        autoInputCatalystFrom(level, catalystPos, back.getOpposite());
+        if (gameTime >= ioNextPoll[IO_CATALYST]) {
+            BlockPos catalystPos = layer1Center.relative(back, 2);
+            boolean moved = autoInputCatalystFrom(getIoConnection(serverLevel, IO_CATALYST, catalystPos, back.getOpposite()));
+            scheduleNextPoll(IO_CATALYST, gameTime, moved);
+        }
 
         // Left side of front: auto-output products
-        BlockPos outputPos = layer1Center.relative(left, 2);
-        autoOutputTo(level, outputPos, left.getOpposite());
+        if (gameTime >= ioNextPoll[IO_OUTPUT]) {
+            BlockPos outputPos = layer1Center.relative(left, 2);
+            boolean moved = autoOutputTo(getIoConnection(serverLevel, IO_OUTPUT, outputPos, left.getOpposite()));
+            scheduleNextPoll(IO_OUTPUT, gameTime, moved);
+        }
+    }
+
+    /**
+     * Back off a side that had nothing to move (up to the configured maximum), or poll it again at the base rate.
+     */
+    private void scheduleNextPoll(int io, long gameTime, boolean moved) {
+        if (moved) {
+            ioIntervals[io] = AUTO_IO_INTERVAL;
+        } else {
+            int max = Math.max(AUTO_IO_INTERVAL, CommonConfig.KILN_AUTO_IO_MAX_INTERVAL.get());
+            ioIntervals[io] = Math.min(ioIntervals[io] * 2, max);
+        }
+        ioNextPoll[io] = gameTime + ioIntervals[io];
     }
 
-    private void autoInputFrom(Level level, BlockPos containerPos, Direction accessSide) {
+    /**
+     * Poll a side at the base rate again, after the kiln's own slot or the neighbouring container changed.
+     */
+    private void resetAutoIOBackoff(int io) {
+        ioIntervals[io] = AUTO_IO_INTERVAL;
+        ioNextPoll[io] = 0;
+    }
+
+    /**
+     * Current auto I/O poll interval in ticks for the input, catalyst and output sides.
+     */
+    public int[] getAutoIOIntervals() {
+        KilnBlockEntity master = getMaster();
+        return master != null ? master.ioIntervals.clone() : new int[3];
+    }
+
+    /**
+     * Cached connection to an auto I/O container, reopened only if the container position changes.
+     */
+    private ItemTransferHelper.Connection getIoConnection(ServerLevel level, int io, BlockPos pos, Direction side) {
+        ItemTransferHelper.Connection connection = ioConnections[io];
+        if (connection == null || !connection.pos().equals(pos) || connection.accessSide() != side) {
+            connection = ItemTransferHelper.INSTANCE.connect(level, pos, side, () -> !isRemoved(),
+                    () -> resetAutoIOBackoff(io));
+            ioConnections[io] = connection;
+        }
+        return connection;
+    }
+
+    private boolean autoInputFrom(Level level, ItemTransferHelper.Connection connection) {
         int current = inputSlot.isEmpty() ? 0 : inputSlot.getCount();
         int maxStack = inputSlot.isEmpty() ? 64 : inputSlot.getMaxStackSize();
-        if (current >= maxStack) return;
+        if (current >= maxStack) return false;
 
         int canAdd = maxStack - current;
-        ItemStack extracted = ItemTransferHelper.INSTANCE.extractItem(level, containerPos, accessSide, canAdd,
+        ItemTransferHelper.ExtractResult result = connection.extract(canAdd,
                 stack -> {
                     if (inputSlot.isEmpty()) return getSmeltingResult(level, stack).isPresent();
                     return ItemStack.isSameItemSameComponents(inputSlot, stack);
                 });
 
-        if (!extracted.isEmpty()) {
+        if (result.moved()) {
             if (inputSlot.isEmpty()) {
-                inputSlot = extracted;
+                inputSlot = result.stack();
             } else {
-                inputSlot.grow(extracted.getCount());
+                inputSlot.grow(result.stack().getCount());
             }
             setChanged();
             syncToClient();
         }
+        return result.moved();
     }
 
-    private void autoInputCatalystFrom(Level level, BlockPos containerPos, Direction accessSide) {
+    private boolean autoInputCatalystFrom(ItemTransferHelper.Connection connection) {
         int current = catalystSlot.isEmpty() ? 0 : catalystSlot.getCount();
-        if (current >= 64) return;
+        if (current >= 64) return false;
 
         int canAdd = 64 - current;
-        ItemStack extracted = ItemTransferHelper.INSTANCE.extractItem(level, containerPos, accessSide, canAdd,
-                this::isCatalyst);
+        ItemTransferHelper.ExtractResult result = connection.extract(canAdd,
+                stack -> catalystSlot.isEmpty() ? isCatalyst(stack) : ItemStack.isSameItemSameComponents(catalystSlot, stack));
 
-        if (!extracted.isEmpty()) {
+        if (result.moved()) {
             if (catalystSlot.isEmpty()) {
-                catalystSlot = extracted;
+                catalystSlot = result.stack();
             } else {
-                catalystSlot.grow(extracted.getCount());
+                catalystSlot.grow(result.stack().getCount());
             }
             setChanged();
             syncToClient();
         }
+        return result.moved();
     }
 
-    private void autoOutputTo(Level level, BlockPos containerPos, Direction accessSide) {
-        if (outputSlot.isEmpty()) return;
+    private boolean autoOutputTo(ItemTransferHelper.Connection connection) {
+        if (outputSlot.isEmpty()) return false;
 
-        ItemStack remainder = ItemTransferHelper.INSTANCE.insertItem(level, containerPos, accessSide, outputSlot.copy());
+        ItemStack remainder = connection.insert(outputSlot);
         if (remainder.getCount() < outputSlot.getCount()) {
             outputSlot = remainder.isEmpty() ? ItemStack.EMPTY : remainder;
             setChanged();
             syncToClient();
+            return true;
+        }
+        return false;
+    }
+
+    // ==================== Progress Sync ====================
+
+    @Override
+    public int[] writeProgress() {
+        return new int[] {smeltProgress};
+    }
+
+    @Override
+    public void readProgress(int[] values) {
+        if (values.length == 1) {
+            smeltProgress = values[0];
         }
     }
 
@@ -660,6 +752,9 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
         tag.putInt("CatalystOutputMultiplier", currentCatalystOutputMultiplier);
         tag.putInt("CatalystSpeedMultiplier", currentCatalystSpeedMultiplier);
         tag.putBoolean("InputAffectedByCatalyst", inputAffectedByCatalyst);
+        if (activeCatalystId != null) {
+            tag.putString("ActiveCatalyst", activeCatalystId.toString());
+        }
     }
 
     @Override
@@ -682,6 +777,9 @@ public class KilnBlockEntity extends MultiblockPartBlockEntity {
         currentCatalystSpeedMultiplier = tag.getInt("CatalystSpeedMultiplier");
         if (currentCatalystSpeedMultiplier <= 0) currentCatalystSpeedMultiplier = 1;
         inputAffectedByCatalyst = tag.getBoolean("InputAffectedByCatalyst");
+        activeCatalystId = tag.contains("ActiveCatalyst") ? ResourceLocation.tryParse(tag.getString("ActiveCatalyst")) : null;
+        activeCatalyst = null;
+        activeCatalystIndex = null;
     }
 
     // ==================== Render ====================
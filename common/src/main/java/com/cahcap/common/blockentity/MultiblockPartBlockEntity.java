@@ -17,7 +17,10 @@ import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public abstract class MultiblockPartBlockEntity extends BlockEntity {
     
@@ -29,6 +32,9 @@ public abstract class MultiblockPartBlockEntity extends BlockEntity {
     private BlockState originalBlockState = null;
     private boolean suppressDrops = false;
 
+    // Resolved master, revalidated on each access (cleared on unform/offset change/load/removal)
+    private MultiblockPartBlockEntity cachedMaster = null;
+
     public AABB renderAABB = null;
 
     protected final int[] structureDimensions;
@@ -44,10 +50,18 @@ public abstract class MultiblockPartBlockEntity extends BlockEntity {
             return null;
         }
         
+        // A removed master (broken, replaced or chunk unloaded) is dropped and looked up again
+        MultiblockPartBlockEntity master = cachedMaster;
+        if (master != null && !master.isRemoved() && master.level == level) {
+            return (T) master;
+        }
+        cachedMaster = null;
+        
         BlockPos masterPos = this.getBlockPos().offset(-offset[0], -offset[1], -offset[2]);
         BlockEntity be = level.getBlockEntity(masterPos);
         
         if (be != null && be.getClass() == this.getClass()) {
+            cachedMaster = (MultiblockPartBlockEntity) be;
             return (T) be;
         }
         
@@ -76,8 +90,8 @@ public abstract class MultiblockPartBlockEntity extends BlockEntity {
     public int getPosInMultiblock() { return posInMultiblock; }
     public void setPosInMultiblock(int pos) { this.posInMultiblock = pos; }
     public int[] getOffset() { return offset; }
-    public void setOffset(int[] offset) { this.offset = offset; }
-    public void setFormed(boolean formed) { this.formed = formed; }
+    public void setOffset(int[] offset) { this.offset = offset; this.cachedMaster = null; }
+    public void setFormed(boolean formed) { this.formed = formed; this.cachedMaster = null; }
     public void setFacing(Direction facing) { this.facing = facing; }
     public boolean isMirrored() { return mirrored; }
     public void setMirrored(boolean mirrored) { this.mirrored = mirrored; }
@@ -95,7 +109,7 @@ public abstract class MultiblockPartBlockEntity extends BlockEntity {
     /** Drop all stored items before disassembly. Called on the entity that initiated disassembly (not necessarily master). */
     protected abstract void dropStoredItems(BlockPos masterPos);
 
-    /** Hook to post-process restored block states (e.g., update fence/wall connections). Default: no-op. */
+    /** Hook to post-process restored block states (e.g., update fence/wall connections), called once every part is restored. Default: no-op. */
     protected BlockState postProcessRestoredBlock(BlockState state, BlockPos pos) {
         return state;
     }
@@ -118,54 +132,78 @@ public abstract class MultiblockPartBlockEntity extends BlockEntity {
 
         // Get all structure positions
         List<BlockPos> positions = getStructurePositions(masterPos);
+        Set<BlockPos> structure = new HashSet<>(positions);
         Block multiblockBlock = getMultiblockBlock();
+        List<BlockPos> restoredPositions = new ArrayList<>();
 
-        // First pass: Mark all blocks as not formed
+        // Single pass: unform each part, then restore its original block without neighbour or shape updates.
+        // Parts are unformed before their block is replaced, so onRemove does not re-enter disassemble().
         for (BlockPos targetPos : positions) {
-            if (level.getBlockState(targetPos).is(multiblockBlock)) {
-                if (level.getBlockEntity(targetPos) instanceof MultiblockPartBlockEntity part) {
-                    part.setFormed(false);
-                    part.renderAABB = null;
-
-                    if (!targetPos.equals(breakPos)) {
-                        part.setSuppressDrops(true);
-                    }
-
-                    part.setChanged();
-                    BlockState state = level.getBlockState(targetPos);
-                    level.sendBlockUpdated(targetPos, state, state, 3);
+            if (!level.getBlockState(targetPos).is(multiblockBlock)) continue;
+
+            BlockState original = null;
+            if (level.getBlockEntity(targetPos) instanceof MultiblockPartBlockEntity part) {
+                part.setFormed(false);
+                part.renderAABB = null;
+                if (!targetPos.equals(breakPos)) {
+                    part.setSuppressDrops(true);
                 }
+                part.setChanged();
+                original = part.getOriginalBlockState();
             }
+
+            // The broken block is replaced by the caller
+            if (targetPos.equals(breakPos)) continue;
+
+            if (original == null) {
+                ItemStack fallback = getOriginalBlock();
+                original = Block.byItem(fallback.getItem()).defaultBlockState();
+            }
+            level.setBlock(targetPos, original, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+            restoredPositions.add(targetPos);
         }
 
-        // Second pass: Replace non-broken blocks with original blocks
-        for (BlockPos targetPos : positions) {
-            if (level.getBlockState(targetPos).is(multiblockBlock)) {
-                if (!targetPos.equals(breakPos)) {
-                    BlockState original = null;
-                    if (level.getBlockEntity(targetPos) instanceof MultiblockPartBlockEntity part) {
-                        original = part.getOriginalBlockState();
-                    }
-                    if (original == null) {
-                        ItemStack fallback = getOriginalBlock();
-                        original = Block.byItem(fallback.getItem()).defaultBlockState();
-                    }
-                    original = postProcessRestoredBlock(original, targetPos);
-                    level.setBlock(targetPos, original, 3);
+        // Consolidated update pass: each restored block is post-processed now that its neighbours are final,
+        // then blocks outside the structure get one shape update per touching face and one neighbour update each.
+        // The broken block's own removal notifies its neighbours.
+        boolean analogOutput = multiblockBlock.defaultBlockState().hasAnalogOutputSignal();
+        Set<BlockPos> notified = new HashSet<>();
+        for (BlockPos targetPos : restoredPositions) {
+            BlockState placed = level.getBlockState(targetPos);
+            BlockState restored = postProcessRestoredBlock(placed, targetPos);
+            if (restored != placed) {
+                level.setBlock(targetPos, restored, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+            }
+            for (Direction direction : Direction.values()) {
+                BlockPos neighborPos = targetPos.relative(direction);
+                if (structure.contains(neighborPos)) continue;
+                level.neighborShapeChanged(direction.getOpposite(), restored, neighborPos, targetPos, Block.UPDATE_ALL, 512);
+                if (notified.add(neighborPos)) {
+                    level.neighborChanged(neighborPos, restored.getBlock(), targetPos);
                 }
             }
+            // Comparators reading the formed structure, as the flag 3 placement used to notify
+            if (analogOutput || restored.hasAnalogOutputSignal()) {
+                level.updateNeighbourForOutputSignal(targetPos, restored.getBlock());
+            }
         }
 
         setChanged();
     }
 
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        cachedMaster = null;
+    }
+
     public abstract ItemStack getOriginalBlock();
     
     /**
      * Get the original block state for this position in the multiblock.
      * Used for destroy particle effects and block restoration on disassembly.
      * Prefers the stored originalBlockState (captured at assembly time).
-     * Falls back to getOriginalBlock() for legacy worlds.
+     * Falls back to getOriginalBlock() for legacy worlds and on the client, which never receives the stored state.
      */
     public BlockState getOriginalBlockState() {
         if (originalBlockState != null) {
@@ -196,6 +234,7 @@ public abstract class MultiblockPartBlockEntity extends BlockEntity {
     @Override
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.loadAdditional(tag, registries);
+        cachedMaster = null;
         
         formed = tag.getBoolean("formed");
         posInMultiblock = tag.getInt("posInMultiblock");
@@ -217,10 +256,26 @@ public abstract class MultiblockPartBlockEntity extends BlockEntity {
         }
     }
     
+    /**
+     * Client update data. Non-master parts only send what the client needs to resolve and render
+     * the structure (formed flag, master offset, facing/mirror); the master also sends its machine state.
+     * The original block state, drop suppression and position index stay server-side: they are only
+     * used for drops and disassembly.
+     */
     @Override
     public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
         CompoundTag tag = new CompoundTag();
-        saveAdditional(tag, registries);
+        if (isMaster()) {
+            saveAdditional(tag, registries);
+            tag.remove("originalBlockState");
+            tag.remove("SuppressDrops");
+            tag.remove("posInMultiblock");
+        } else {
+            tag.putBoolean("formed", formed);
+            tag.putIntArray("offset", offset);
+            tag.putInt("facing", facing.get3DDataValue());
+            tag.putBoolean("mirrored", mirrored);
+        }
         return tag;
     }
     
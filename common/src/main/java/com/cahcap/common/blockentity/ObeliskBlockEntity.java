@@ -1,5 +1,7 @@
 package com.cahcap.common.blockentity;
 
+import com.cahcap.common.network.ProgressSyncable;
+import com.cahcap.common.util.BlockEntityHelper;
 import com.cahcap.common.recipe.ObeliskOfferingRecipe;
 import com.cahcap.common.registry.ModRegistries;
 import net.minecraft.core.BlockPos;
@@ -35,7 +37,7 @@ import java.util.Optional;
  * - After a configurable wait time, a mob spawns in front of the obelisk
  * - Simple static recipe list (to be made data-driven later)
  */
-public class ObeliskBlockEntity extends MultiblockPartBlockEntity {
+public class ObeliskBlockEntity extends MultiblockPartBlockEntity implements ProgressSyncable {
 
     // ==================== State ====================
 
@@ -221,7 +223,22 @@ public class ObeliskBlockEntity extends MultiblockPartBlockEntity {
             blockEntity.syncToClient();
         } else if (blockEntity.offeringTimer % 20 == 0) {
             // Periodic sync for client-side animation
-            blockEntity.syncToClient();
+            BlockEntityHelper.syncProgressToClient(blockEntity);
+        }
+    }
+
+    // ==================== Progress Sync ====================
+
+    @Override
+    public int[] writeProgress() {
+        return new int[] {offeringTimer, totalOfferingTime};
+    }
+
+    @Override
+    public void readProgress(int[] values) {
+        if (values.length == 2) {
+            offeringTimer = values[0];
+            totalOfferingTime = values[1];
         }
     }
 
@@ -22,6 +22,7 @@ import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -48,6 +49,7 @@ public class WorkbenchBlockEntity extends BlockEntity {
     
     // Material stack [0] is bottom (first in), [size-1] is top (last in, first out)
     private final List<ItemStack> materialStackList = new ArrayList<>();
+    private final List<ItemStack> materialStackView = Collections.unmodifiableList(materialStackList);
     
     public WorkbenchBlockEntity(BlockPos pos, BlockState state) {
         super(getBlockEntityType(), pos, state);
@@ -79,6 +81,15 @@ public class WorkbenchBlockEntity extends BlockEntity {
         return toolSlots[slot].copy();
     }
     
+    /**
+     * Get the tool at a specific slot without copying.
+     * The returned stack is live slot content and must not be modified (used by recipe matching).
+     */
+    public ItemStack viewToolAt(int slot) {
+        if (slot < 0 || slot >= TOOL_SLOTS) return ItemStack.EMPTY;
+        return toolSlots[slot];
+    }
+    
     /**
      * Add a tool to the first available slot.
      * @param stack The item to add
@@ -202,6 +213,14 @@ public class WorkbenchBlockEntity extends BlockEntity {
         return inputSlot.copy();
     }
     
+    /**
+     * Get the input item without copying.
+     * The returned stack is live slot content and must not be modified (used by recipe matching).
+     */
+    public ItemStack viewInputItem() {
+        return inputSlot;
+    }
+    
     /**
      * Set the input item.
      * @param stack The item to set
@@ -308,6 +327,14 @@ public class WorkbenchBlockEntity extends BlockEntity {
         return result;
     }
     
+    /**
+     * Get a read-only view of the material stack without copying.
+     * The contained stacks are live slot content and must not be modified (used by recipe matching).
+     */
+    public List<ItemStack> viewMaterials() {
+        return materialStackView;
+    }
+    
     /**
      * Push a material onto the stack.
      * @param stack The item to push
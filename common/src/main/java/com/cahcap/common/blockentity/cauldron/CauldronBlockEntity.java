@@ -1,14 +1,22 @@
 package com.cahcap.common.blockentity.cauldron;
 
 import com.cahcap.common.blockentity.MultiblockPartBlockEntity;
+import com.cahcap.common.config.CommonConfig;
 import com.cahcap.common.item.flowweavering.FlowweaveRingItem;
+import com.cahcap.common.network.EffectPacketStats;
+import com.cahcap.common.network.NetworkHelper;
+import com.cahcap.common.network.ProgressSyncable;
+import com.cahcap.common.util.BlockEntityHelper;
 import com.cahcap.common.recipe.CauldronBrewingRecipe;
+import com.cahcap.common.recipe.CauldronBrewingRecipeIndex;
 import com.cahcap.common.recipe.CauldronInfusingRecipe;
+import com.cahcap.common.recipe.CauldronInfusingRecipeIndex;
 import com.cahcap.common.registry.ModRegistries;
 import com.cahcap.common.util.HerbRegistry;
 import com.cahcap.common.registry.ModTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
@@ -17,6 +25,7 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.BucketItem;
@@ -31,10 +40,12 @@ import net.minecraft.world.level.block.SlabBlock;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.SlabType;
+import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -53,7 +64,7 @@ import java.util.Map;
  * Infusing: Automatic process when item is added to fluid/potion
  * Brewing: Manual process triggered by Flowweave Ring
  */
-public class CauldronBlockEntity extends MultiblockPartBlockEntity {
+public class CauldronBlockEntity extends MultiblockPartBlockEntity implements ProgressSyncable {
 
     /**
      * States of the brewing process.
@@ -93,8 +104,19 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
     // Herbs storage (can only be added during brewing)
     private final Map<Item, Integer> herbs = new HashMap<>();
     
-    // Heat source detection
+    // Heat source detection (master only); recomputed when a block under the footprint changes
     private boolean hasHeatSource = false;
+    private boolean heatSourceDirty = true;
+    
+    // Item intake (master only, not saved)
+    private AABB intakeArea;
+    private final List<ItemEntity> intakeScratch = new ArrayList<>();
+    
+    // Game time of the last item splash (master only, not saved); further inserts that tick don't splash again
+    private long lastSplashTick = Long.MIN_VALUE;
+    
+    // Name of the splash effect in EffectPacketStats
+    public static final String SPLASH_EFFECT = "cauldron_splash";
     
     // Infusing state (automatic crafting when item is in fluid)
     private ItemStack infusingInput = ItemStack.EMPTY;
@@ -525,19 +547,16 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
         ItemStack ringStack = materialIngredients.get(0);
         ItemStack boundRing = ringStack.copy();
         
-        // Convert effects to effect IDs
-        List<String> effectIds = new ArrayList<>();
+        // Convert effects to registry holders
+        List<Holder<MobEffect>> effects = new ArrayList<>();
         for (MobEffect effect : fluid.getEffects()) {
-            net.minecraft.resources.ResourceLocation effectResLoc = BuiltInRegistries.MOB_EFFECT.getKey(effect);
-            if (effectResLoc != null) {
-                effectIds.add(effectResLoc.toString());
-            }
+            effects.add(BuiltInRegistries.MOB_EFFECT.wrapAsHolder(effect));
         }
         
         Map<Item, Integer> herbCost = new HashMap<>(lastBrewedHerbs);
         
         FlowweaveRingItem.bindPotion(boundRing,
-                effectIds,
+                effects,
                 fluid.getColor(),
                 fluid.getDuration(),
                 fluid.getAmplifier() + 1,
@@ -559,34 +578,18 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
         return unboundRing;
     }
     
-    /**
-     * Find an infusing recipe that EXACTLY matches current materials and fluid.
-     * This includes both normal infusing recipes and Flowweave Ring binding recipes.
-     */
     /**
      * Find a matching infusing recipe.
      * Uses relaxed matching - materials just need to contain the required item types.
+     * This includes both normal infusing recipes and Flowweave Ring binding recipes.
+     * Candidates come from the reload-built {@link CauldronInfusingRecipeIndex}.
      */
     private CauldronInfusingRecipe findMatchingInfusingRecipe() {
         if (level == null) return null;
         
-        var recipes = level.getRecipeManager().getAllRecipesFor(ModRegistries.CAULDRON_INFUSING_RECIPE_TYPE.get());
-        for (var recipeHolder : recipes) {
-            CauldronInfusingRecipe recipe = recipeHolder.value();
-            // Check fluid first (cheaper check)
-            if (!recipe.matchesFluid(fluid)) continue;
-            
-            // For Flowweave Ring binding, also check that the ring is unbound
-            if (recipe.isFlowweaveRingBinding()) {
-                if (!matchesFlowweaveRingBindingConditions()) continue;
-            }
-            
-            // Check materials contain required types (relaxed matching)
-            if (recipe.matchesMaterialsContains(materialIngredients)) {
-                return recipe;
-            }
-        }
-        return null;
+        return CauldronInfusingRecipeIndex.get(level.getRecipeManager()).findMatch(fluid, materialIngredients,
+                // For Flowweave Ring binding, also check that the ring is unbound
+                recipe -> !recipe.isFlowweaveRingBinding() || matchesFlowweaveRingBindingConditions());
     }
     
     /**
@@ -609,7 +612,7 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
         if (effects.isEmpty()) return false;
         
         // Find the brewing recipe for these effects to get max values
-        CauldronBrewingRecipe brewingRecipe = findBrewingRecipeByEffects(effects);
+        CauldronBrewingRecipe brewingRecipe = findBrewingRecipeByEffects(fluid.getEffectKey());
         if (brewingRecipe == null) {
             // No recipe found for these effects - use default values
             // Default: 480 seconds, level 2 (amplifier 1)
@@ -665,7 +668,7 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
 
         // Must have water and materials to start brewing
         if (master.brewingState == BrewingState.IDLE && master.fluid.isWater() && !master.materialIngredients.isEmpty()) {
-            boolean hasHeat = master.checkHeatSource();
+            boolean hasHeat = master.updateHeatSource();
 
             if (hasHeat) {
                 // Find matching brewing recipe
@@ -691,7 +694,7 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
         
         // Complete brewing on second click (requires heat source)
         if (master.brewingState == BrewingState.BREWING) {
-            boolean hasHeat = master.checkHeatSource();
+            boolean hasHeat = master.updateHeatSource();
             if (hasHeat) {
                 // Start the "completing brew" phase
                 master.brewingState = BrewingState.COMPLETING;
@@ -726,29 +729,11 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
     }
     
     /**
-     * Find a brewing recipe by effect IDs (matches if recipe has all the same effects)
+     * Find a brewing recipe with exactly the given effect set (single lookup in the reload-built index)
      */
-    private CauldronBrewingRecipe findBrewingRecipeByEffects(List<MobEffect> effects) {
-        if (level == null || effects.isEmpty()) return null;
-        
-        // Build a set of effect IDs for comparison
-        java.util.Set<String> targetEffectIds = new java.util.HashSet<>();
-        for (MobEffect effect : effects) {
-            net.minecraft.resources.ResourceLocation effectId = BuiltInRegistries.MOB_EFFECT.getKey(effect);
-            if (effectId != null) {
-                targetEffectIds.add(effectId.toString());
-            }
-        }
-        
-        var recipes = level.getRecipeManager().getAllRecipesFor(ModRegistries.CAULDRON_BREWING_RECIPE_TYPE.get());
-        for (var recipeHolder : recipes) {
-            CauldronBrewingRecipe recipe = recipeHolder.value();
-            java.util.Set<String> recipeEffectIds = new java.util.HashSet<>(recipe.getEffectIds());
-            if (recipeEffectIds.equals(targetEffectIds)) {
-                return recipe;
-            }
-        }
-        return null;
+    private CauldronBrewingRecipe findBrewingRecipeByEffects(EffectSetKey effectKey) {
+        if (level == null || effectKey.isEmpty()) return null;
+        return CauldronBrewingRecipeIndex.get(level.getRecipeManager()).findByEffects(effectKey);
     }
     
     /**
@@ -756,15 +741,7 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
      */
     private CauldronBrewingRecipe findBrewingRecipeByEffect(String effectId) {
         if (level == null) return null;
-        
-        var recipes = level.getRecipeManager().getAllRecipesFor(ModRegistries.CAULDRON_BREWING_RECIPE_TYPE.get());
-        for (var recipeHolder : recipes) {
-            CauldronBrewingRecipe recipe = recipeHolder.value();
-            if (recipe.getEffectIds().contains(effectId)) {
-                return recipe;
-            }
-        }
-        return null;
+        return CauldronBrewingRecipeIndex.get(level.getRecipeManager()).findContainingEffect(effectId);
     }
     
     /**
@@ -794,7 +771,7 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
         }
         
         // Find brewing recipe to get default and max values
-        CauldronBrewingRecipe brewingRecipe = findBrewingRecipeByEffects(effects);
+        CauldronBrewingRecipe brewingRecipe = findBrewingRecipeByEffects(fluid.getEffectKey());
         
         // Get values from recipe, or use defaults
         int defaultDurationSeconds = brewingRecipe != null ? brewingRecipe.getDefaultDuration() : BASE_DURATION_SECONDS;
@@ -981,6 +958,28 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
     
     // ==================== Heat Source Detection ====================
     
+    /**
+     * Request a heat source re-check on the master.
+     * Called by the bottom-layer parts when the block below them changes.
+     */
+    public void markHeatSourceDirty() {
+        CauldronBlockEntity master = getMaster();
+        if (master != null) {
+            master.heatSourceDirty = true;
+        }
+    }
+    
+    /**
+     * Get the cached heat source state, re-checking the blocks below only if they changed.
+     */
+    private boolean updateHeatSource() {
+        if (heatSourceDirty) {
+            heatSourceDirty = false;
+            return checkHeatSource();
+        }
+        return hasHeatSource;
+    }
+    
     /**
      * Check if there's at least one heat source below the cauldron
      */
@@ -1034,13 +1033,29 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
         return false;
     }
     
+    // ==================== Item Intake ====================
+    
+    /**
+     * Get the area items are collected from (3x3 above the cauldron, slightly above liquid surface).
+     * Computed once; the master never moves while formed.
+     */
+    private AABB getIntakeArea() {
+        if (intakeArea == null) {
+            BlockPos masterPos = getBlockPos();
+            intakeArea = new AABB(
+                    masterPos.getX() - 1, masterPos.getY() + 0.5, masterPos.getZ() - 1, // Below liquid surface to catch sunken items
+                    masterPos.getX() + 2, masterPos.getY() + 2, masterPos.getZ() + 2);  // Up to cauldron top (2 blocks tall)
+        }
+        return intakeArea;
+    }
+    
     // ==================== Ticking ====================
     
     public static void serverTick(Level level, BlockPos pos, BlockState state, CauldronBlockEntity be) {
         if (!be.isMaster()) return;
         
-        // Update heat source status
-        be.checkHeatSource();
+        // Update heat source status (only reads blocks after a change below the cauldron)
+        be.updateHeatSource();
         
         // Collect items thrown into the cauldron
         be.collectItemsFromAbove(level);
@@ -1089,8 +1104,7 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
                     // Infusing complete
                     be.completeInfusing();
                 } else if (be.infusingProgress % 20 == 0) {
-                    be.setChanged();
-                    be.syncToClient();
+                    BlockEntityHelper.syncProgressToClient(be);
                 }
             }
         }
@@ -1103,19 +1117,16 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
         // Only collect if we have fluid
         if (fluid.isEmpty()) return;
         
-        // Define the collection area (3x3 above the cauldron, slightly above liquid surface)
-        BlockPos masterPos = getBlockPos();
-        double minX = masterPos.getX() - 1;
-        double maxX = masterPos.getX() + 2;
-        double minY = masterPos.getY() + 0.5; // Below liquid surface to catch sunken items
-        double maxY = masterPos.getY() + 2;   // Up to cauldron top (2 blocks tall)
-        double minZ = masterPos.getZ() - 1;
-        double maxZ = masterPos.getZ() + 2;
+        // Poll on the configured interval, staggered per cauldron so they don't all query on the same tick
+        int interval = Math.max(1, CommonConfig.CAULDRON_ITEM_INTAKE_INTERVAL.get());
+        if (interval > 1 && Math.floorMod(level.getGameTime() + worldPosition.asLong(), interval) != 0) return;
         
-        AABB collectArea = new AABB(minX, minY, minZ, maxX, maxY, maxZ);
-        
-        // Find all item entities in the area
-        List<ItemEntity> items = level.getEntitiesOfClass(ItemEntity.class, collectArea);
+        // Same class-filtered query as getEntitiesOfClass; the savings are the polling interval above,
+        // the cached intake AABB and collecting into a reused list instead of a new one per poll
+        List<ItemEntity> items = intakeScratch;
+        items.clear();
+        level.getEntities(EntityTypeTest.forClass(ItemEntity.class), getIntakeArea(), EntitySelector.ENTITY_STILL_ALIVE, items);
+        if (items.isEmpty()) return;
         
         for (ItemEntity itemEntity : items) {
             ItemStack stack = itemEntity.getItem();
@@ -1149,6 +1160,7 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
                 }
             }
         }
+        items.clear();
     }
     
     private boolean addMaterialFromEntity(ItemStack stack) {
@@ -1205,27 +1217,31 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
     }
     
     /**
-     * Play splash sound and spawn splash particles when item enters the cauldron
+     * Play splash sound and spawn splash particles when item enters the cauldron.
+     * Items entering in the same tick share one splash (a hopper or a thrown stack would otherwise splash per insert).
      */
     private void playItemSplashSound() {
-        if (level != null && !level.isClientSide) {
-            level.playSound(null, worldPosition, SoundEvents.GENERIC_SPLASH, SoundSource.BLOCKS, 0.3F, 1.2F);
-            spawnSplashParticles();
-        }
-    }
-    
-    /**
-     * Spawn water splash particles on the liquid surface
-     */
-    private void spawnSplashParticles() {
         if (level == null || level.isClientSide) return;
-        if (!(level instanceof ServerLevel serverLevel)) return;
         
         CauldronBlockEntity master = isMaster() ? this : getMaster();
         if (master == null) return;
         
-        BlockPos masterPos = master.getBlockPos();
+        long gameTime = level.getGameTime();
+        if (master.lastSplashTick == gameTime) return;
+        master.lastSplashTick = gameTime;
         
+        level.playSound(null, worldPosition, SoundEvents.GENERIC_SPLASH, SoundSource.BLOCKS, 0.3F, 1.2F);
+        if (level instanceof ServerLevel serverLevel && NetworkHelper.INSTANCE != null) {
+            // One payload per tracking player; the client spawns the particles
+            int packets = NetworkHelper.INSTANCE.sendCauldronSplash(serverLevel, master.getBlockPos());
+            EffectPacketStats.record(SPLASH_EFFECT, packets);
+        }
+    }
+    
+    /**
+     * Client side: spawn water splash particles on the liquid surface of the cauldron whose master is at masterPos
+     */
+    public static void spawnSplashParticles(Level level, BlockPos masterPos) {
         // Liquid surface Y: master block Y + 27/16 (from CauldronRenderer LIQUID_FULL_Y)
         double liquidY = masterPos.getY() + (27.0 / 16.0);
         
@@ -1233,20 +1249,20 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
         double centerX = masterPos.getX() + 0.5;
         double centerZ = masterPos.getZ() + 0.5;
         
-        // Spawn splash particles in the 3x3 cauldron area
-        java.util.Random random = new java.util.Random();
+        // Spawn splash particles in the 3x3 cauldron area, with the same spread as a server particle packet at speed 0.18
+        RandomSource random = level.random;
         for (int i = 0; i < 25; i++) {
             double offsetX = (random.nextDouble() - 0.5) * 2.25;
             double offsetZ = (random.nextDouble() - 0.5) * 2.25;
             
-            serverLevel.sendParticles(
+            level.addParticle(
                     ParticleTypes.SPLASH,
                     centerX + offsetX,
                     liquidY,
                     centerZ + offsetZ,
-                    1,
-                    0.0, 0.0, 0.0,
-                    0.18
+                    random.nextGaussian() * 0.18,
+                    random.nextGaussian() * 0.18,
+                    random.nextGaussian() * 0.18
             );
         }
     }
@@ -1372,6 +1388,21 @@ public class CauldronBlockEntity extends MultiblockPartBlockEntity {
         return master != null ? new HashMap<>(master.lastBrewedHerbs) : new HashMap<>();
     }
     
+    // ==================== Progress Sync ====================
+
+    @Override
+    public int[] writeProgress() {
+        return new int[] {infusingProgress, infusingTime};
+    }
+
+    @Override
+    public void readProgress(int[] values) {
+        if (values.length == 2) {
+            infusingProgress = values[0];
+            infusingTime = values[1];
+        }
+    }
+
     // ==================== Multiblock Management ====================
     
     @Override
@@ -42,6 +42,9 @@ public class CauldronFluid {
     private int amplifier = 0;     // Potion level (0 = level 1)
     private int color = 0x3F76E4;  // Default water color
 
+    // Interned key for the current effect set, computed lazily and reset whenever effects change
+    private EffectSetKey effectKey = null;
+
     // Private constructor - use factory methods
     private CauldronFluid() {}
 
@@ -160,6 +163,16 @@ public class CauldronFluid {
         return effects;
     }
 
+    /**
+     * Get the canonical key for the current effect set (used for brewing recipe lookups)
+     */
+    public EffectSetKey getEffectKey() {
+        if (effectKey == null) {
+            effectKey = EffectSetKey.of(effects);
+        }
+        return effectKey;
+    }
+
     public int getDuration() {
         return duration;
     }
@@ -226,6 +239,7 @@ public class CauldronFluid {
         this.potionUnits = 0;
         this.fluid = null;
         this.effects.clear();
+        this.effectKey = null;
         this.duration = 0;
         this.amplifier = 0;
         this.color = 0x3F76E4;
@@ -239,6 +253,7 @@ public class CauldronFluid {
         this.fluid = Fluids.WATER;
         this.potionUnits = 0;
         this.effects.clear();
+        this.effectKey = null;
         this.duration = 0;
         this.amplifier = 0;
         this.color = 0x3F76E4;
@@ -253,6 +268,7 @@ public class CauldronFluid {
         this.type = FluidType.BOILING_POTION;
         this.fluid = null;
         this.effects = new ArrayList<>(effects);
+        this.effectKey = null;
         this.duration = 0;   // To be determined
         this.amplifier = 0;  // To be determined
         this.color = color;
@@ -298,6 +314,7 @@ public class CauldronFluid {
         this.type = FluidType.POTION;
         this.fluid = null;
         this.effects = new ArrayList<>(List.of(effect));
+        this.effectKey = null;
         this.duration = duration;
         this.amplifier = amplifier;
         this.color = color;
@@ -421,6 +438,7 @@ public class CauldronFluid {
         cf.amount = this.amount;
         cf.fluid = this.fluid;
         cf.effects = new ArrayList<>(this.effects);
+        cf.effectKey = this.effectKey;
         cf.duration = this.duration;
         cf.amplifier = this.amplifier;
         cf.color = this.color;
@@ -0,0 +1,66 @@
+package com.cahcap.common.blockentity.cauldron;
+
+import net.minecraft.world.effect.MobEffect;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Canonical, interned key for an unordered set of potion effects.
+ * Two effect lists containing the same effects (in any order, with any duplicates)
+ * resolve to the same instance, so keys can be compared by identity and hashed without
+ * rebuilding sets or registry id strings.
+ */
+public final class EffectSetKey {
+
+    private static final ConcurrentHashMap<Set<MobEffect>, EffectSetKey> INTERNED = new ConcurrentHashMap<>();
+
+    public static final EffectSetKey EMPTY = of(Set.of());
+
+    private final Set<MobEffect> effects;
+    private final int hash;
+
+    private EffectSetKey(Set<MobEffect> effects) {
+        this.effects = effects;
+        this.hash = effects.hashCode();
+    }
+
+    /**
+     * Get the interned key for the given effects. Null entries are ignored.
+     */
+    public static EffectSetKey of(Collection<MobEffect> effects) {
+        if (effects.isEmpty() && EMPTY != null) {
+            return EMPTY;
+        }
+        Set<MobEffect> set = effects.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+        return INTERNED.computeIfAbsent(set, EffectSetKey::new);
+    }
+
+    public Set<MobEffect> getEffects() {
+        return effects;
+    }
+
+    public boolean isEmpty() {
+        return effects.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof EffectSetKey other && hash == other.hash && effects.equals(other.effects));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "EffectSetKey" + effects;
+    }
+}
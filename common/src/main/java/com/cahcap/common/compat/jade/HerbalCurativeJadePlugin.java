@@ -5,6 +5,7 @@ import com.cahcap.common.block.HerbCabinetBlock;
 import com.cahcap.common.block.HerbVaultBlock;
 import com.cahcap.common.block.KilnBlock;
 import com.cahcap.common.block.ObeliskBlock;
+import com.cahcap.common.blockentity.KilnBlockEntity;
 import snownee.jade.api.IWailaClientRegistration;
 import snownee.jade.api.IWailaCommonRegistration;
 import snownee.jade.api.IWailaPlugin;
@@ -22,6 +23,7 @@ public class HerbalCurativeJadePlugin implements IWailaPlugin {
         registration.registerBlockIcon(new HerbCabinetComponentProvider(), HerbCabinetBlock.class);
         registration.registerBlockIcon(new CauldronComponentProvider(), CauldronBlock.class);
         registration.registerBlockIcon(new KilnComponentProvider(), KilnBlock.class);
+        registration.registerBlockComponent(new KilnComponentProvider(), KilnBlock.class);
         registration.registerBlockIcon(new HerbVaultComponentProvider(), HerbVaultBlock.class);
         registration.registerBlockIcon(new ObeliskComponentProvider(), ObeliskBlock.class);
     }
@@ -29,6 +31,7 @@ public class HerbalCurativeJadePlugin implements IWailaPlugin {
     @Override
     public void register(IWailaCommonRegistration registration) {
         // Common registration (server-side data providers)
+        registration.registerBlockDataProvider(new KilnComponentProvider(), KilnBlockEntity.class);
     }
 }
 
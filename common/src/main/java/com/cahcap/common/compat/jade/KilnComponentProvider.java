@@ -1,11 +1,15 @@
 package com.cahcap.common.compat.jade;
 
 import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.blockentity.KilnBlockEntity;
 import com.cahcap.common.registry.ModRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import snownee.jade.api.BlockAccessor;
 import snownee.jade.api.IBlockComponentProvider;
+import snownee.jade.api.IServerDataProvider;
 import snownee.jade.api.ITooltip;
 import snownee.jade.api.config.IPluginConfig;
 import snownee.jade.api.ui.IElement;
@@ -16,12 +20,28 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Jade icon provider for Kiln multiblock.
  * Only shows the kiln item icon — detailed info is in the HUD tooltip.
+ * While sneaking, also shows the server-side auto I/O poll intervals for debugging.
  */
-public class KilnComponentProvider implements IBlockComponentProvider {
+public class KilnComponentProvider implements IBlockComponentProvider, IServerDataProvider<BlockAccessor> {
     public static final ResourceLocation ID = ResourceLocation.fromNamespaceAndPath(HerbalCurativeCommon.MOD_ID, "kiln_provider");
 
+    private static final String TAG_AUTO_IO = "AutoIOIntervals";
+
     @Override
     public void appendTooltip(ITooltip tooltip, BlockAccessor accessor, IPluginConfig config) {
+        if (!accessor.showDetails()) return;
+        int[] intervals = accessor.getServerData().getIntArray(TAG_AUTO_IO);
+        if (intervals.length == 3) {
+            tooltip.add(Component.translatable("tooltip.herbalcurative.kiln.auto_io",
+                    intervals[0], intervals[1], intervals[2]));
+        }
+    }
+
+    @Override
+    public void appendServerData(CompoundTag data, BlockAccessor accessor) {
+        if (accessor.getBlockEntity() instanceof KilnBlockEntity kiln && kiln.isFormed()) {
+            data.putIntArray(TAG_AUTO_IO, kiln.getAutoIOIntervals());
+        }
     }
 
     @Nullable
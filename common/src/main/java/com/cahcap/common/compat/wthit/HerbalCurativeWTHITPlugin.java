@@ -5,6 +5,7 @@ import com.cahcap.common.block.HerbCabinetBlock;
 import com.cahcap.common.block.HerbVaultBlock;
 import com.cahcap.common.block.KilnBlock;
 import com.cahcap.common.block.ObeliskBlock;
+import com.cahcap.common.blockentity.KilnBlockEntity;
 import mcp.mobius.waila.api.IClientRegistrar;
 import mcp.mobius.waila.api.ICommonRegistrar;
 import mcp.mobius.waila.api.IWailaClientPlugin;
@@ -22,6 +23,7 @@ public class HerbalCurativeWTHITPlugin implements IWailaClientPlugin, IWailaComm
         registrar.icon(HerbCabinetComponentProvider.INSTANCE, HerbCabinetBlock.class);
         registrar.icon(CauldronComponentProvider.INSTANCE, CauldronBlock.class);
         registrar.icon(KilnComponentProvider.INSTANCE, KilnBlock.class);
+        registrar.body(KilnComponentProvider.INSTANCE, KilnBlock.class);
         registrar.icon(HerbVaultComponentProvider.INSTANCE, HerbVaultBlock.class);
         registrar.icon(ObeliskComponentProvider.INSTANCE, ObeliskBlock.class);
     }
@@ -29,5 +31,6 @@ public class HerbalCurativeWTHITPlugin implements IWailaClientPlugin, IWailaComm
     @Override
     public void register(ICommonRegistrar registrar) {
         // Common registration (server-side data providers)
+        registrar.blockData(KilnComponentProvider.INSTANCE, KilnBlockEntity.class);
     }
 }
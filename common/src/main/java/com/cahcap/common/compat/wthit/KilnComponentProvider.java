@@ -1,23 +1,31 @@
 package com.cahcap.common.compat.wthit;
 
+import com.cahcap.common.blockentity.KilnBlockEntity;
 import com.cahcap.common.registry.ModRegistries;
 import mcp.mobius.waila.api.IBlockAccessor;
 import mcp.mobius.waila.api.IBlockComponentProvider;
+import mcp.mobius.waila.api.IDataProvider;
+import mcp.mobius.waila.api.IDataWriter;
 import mcp.mobius.waila.api.IPluginConfig;
+import mcp.mobius.waila.api.IServerAccessor;
 import mcp.mobius.waila.api.ITooltip;
 import mcp.mobius.waila.api.ITooltipComponent;
 import mcp.mobius.waila.api.component.ItemComponent;
+import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * WTHIT icon provider for Kiln multiblock.
  * Only shows the kiln item icon — detailed info is in the HUD tooltip.
+ * While sneaking, also shows the server-side auto I/O poll intervals for debugging.
  */
-enum KilnComponentProvider implements IBlockComponentProvider {
+enum KilnComponentProvider implements IBlockComponentProvider, IDataProvider<KilnBlockEntity> {
 
     INSTANCE;
 
+    private static final String TAG_AUTO_IO = "AutoIOIntervals";
+
     @Nullable
     @Override
     public ITooltipComponent getIcon(IBlockAccessor accessor, IPluginConfig config) {
@@ -26,5 +34,19 @@ enum KilnComponentProvider implements IBlockComponentProvider {
 
     @Override
     public void appendBody(ITooltip tooltip, IBlockAccessor accessor, IPluginConfig config) {
+        if (!accessor.getPlayer().isShiftKeyDown()) return;
+        int[] intervals = accessor.getData().raw().getIntArray(TAG_AUTO_IO);
+        if (intervals.length == 3) {
+            tooltip.addLine(Component.translatable("tooltip.herbalcurative.kiln.auto_io",
+                    intervals[0], intervals[1], intervals[2]));
+        }
+    }
+
+    @Override
+    public void appendData(IDataWriter data, IServerAccessor<KilnBlockEntity> accessor, IPluginConfig config) {
+        KilnBlockEntity kiln = accessor.getTarget();
+        if (kiln.isFormed()) {
+            data.raw().putIntArray(TAG_AUTO_IO, kiln.getAutoIOIntervals());
+        }
     }
 }
@@ -0,0 +1,29 @@
+package com.cahcap.common.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Common config references for cross-platform access.
+ * Mod loader modules should replace these suppliers with their config values during initialization;
+ * the defaults below are used until then.
+ */
+public class CommonConfig {
+
+    // ==================== Cauldron ====================
+
+    /** Ticks between polls for item entities thrown into a filled cauldron. */
+    public static Supplier<Integer> CAULDRON_ITEM_INTAKE_INTERVAL = () -> 4;
+
+    // ==================== Kiln ====================
+
+    /** Upper bound in ticks for the kiln's auto I/O poll interval on sides that keep finding nothing to move. */
+    public static Supplier<Integer> KILN_AUTO_IO_MAX_INTERVAL = () -> 160;
+
+    // ==================== Debug ====================
+
+    /** Whether client sync traffic is counted per block entity type (see SyncStats). */
+    public static Supplier<Boolean> COUNT_SYNC_BYTES = () -> false;
+
+    /** Whether visual-effect packets sent per second are logged (see EffectPacketStats). */
+    public static Supplier<Boolean> LOG_EFFECT_PACKETS = () -> false;
+}
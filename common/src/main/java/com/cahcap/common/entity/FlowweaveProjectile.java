@@ -1,5 +1,7 @@
 package com.cahcap.common.entity;
 
+import com.cahcap.common.network.EffectPacketStats;
+import com.cahcap.common.network.NetworkHelper;
 import com.cahcap.common.registry.ModRegistries;
 import net.minecraft.core.Holder;
 import net.minecraft.core.particles.DustParticleOptions;
@@ -66,7 +68,10 @@ public class FlowweaveProjectile extends ThrowableProjectile {
     
     // Maximum flight distance (48 blocks at speed 3.0 = 16 ticks)
     private static final int MAX_FLIGHT_TICKS = 16;
-    private static final double PARTICLE_VISIBLE_RANGE = 64.0;
+    
+    // Explosion burst color (the same green as the trail) and its name in EffectPacketStats
+    private static final int EXPLOSION_COLOR = 0x1A8026;
+    public static final String BURST_EFFECT = "flowweave_burst";
     private int flightTicks = 0;
 
     public FlowweaveProjectile(EntityType<? extends FlowweaveProjectile> type, Level level) {
@@ -213,39 +218,42 @@ public class FlowweaveProjectile extends ThrowableProjectile {
         level.playSound(null, pos.x, pos.y, pos.z,
                 SoundEvents.GENERIC_EXPLODE.value(), SoundSource.PLAYERS, 1.0F, 1.0F);
         
-        // Spawn explosion particles — send to all players within visible range
-        if (level instanceof ServerLevel serverLevel) {
-            Vector3f greenColor = new Vector3f(0.1F, 0.5F, 0.15F);
-            DustParticleOptions greenDust = new DustParticleOptions(greenColor, 2.0F);
-
-            double rangeSq = PARTICLE_VISIBLE_RANGE * PARTICLE_VISIBLE_RANGE;
-            for (net.minecraft.server.level.ServerPlayer player : serverLevel.players()) {
-                if (player.distanceToSqr(pos.x, pos.y, pos.z) > rangeSq) continue;
+        // One payload per tracking player; the client generates the particle burst
+        if (level instanceof ServerLevel serverLevel && NetworkHelper.INSTANCE != null) {
+            int packets = NetworkHelper.INSTANCE.sendFlowweaveBurst(serverLevel, pos, (float) EXPLOSION_RADIUS, EXPLOSION_COLOR);
+            EffectPacketStats.record(BURST_EFFECT, packets);
+        }
+    }
+    
+    /**
+     * Client side: spawn the explosion particle burst announced by the server.
+     * Always visible, like the forced particles it replaces.
+     */
+    public static void spawnExplosionParticles(Level level, double x, double y, double z, float explosionRadius, int color) {
+        Vector3f rgb = new Vector3f(
+                ((color >> 16) & 0xFF) / 255.0F,
+                ((color >> 8) & 0xFF) / 255.0F,
+                (color & 0xFF) / 255.0F);
+        DustParticleOptions dust = new DustParticleOptions(rgb, 2.0F);
 
-                for (int i = 0; i < 60; i++) {
-                    double angle1 = level.random.nextDouble() * Math.PI * 2;
-                    double angle2 = level.random.nextDouble() * Math.PI;
-                    double radius = EXPLOSION_RADIUS * (0.5 + level.random.nextDouble() * 0.5);
+        for (int i = 0; i < 60; i++) {
+            double angle1 = level.random.nextDouble() * Math.PI * 2;
+            double angle2 = level.random.nextDouble() * Math.PI;
+            double radius = explosionRadius * (0.5 + level.random.nextDouble() * 0.5);
 
-                    double ox = Math.sin(angle2) * Math.cos(angle1) * radius;
-                    double oy = Math.cos(angle2) * radius;
-                    double oz = Math.sin(angle2) * Math.sin(angle1) * radius;
+            double ox = Math.sin(angle2) * Math.cos(angle1) * radius;
+            double oy = Math.cos(angle2) * radius;
+            double oz = Math.sin(angle2) * Math.sin(angle1) * radius;
 
-                    serverLevel.sendParticles(player, greenDust, true,
-                            pos.x + ox, pos.y + oy, pos.z + oz,
-                            1, 0, 0, 0, 0);
-                }
+            level.addAlwaysVisibleParticle(dust, x + ox, y + oy, z + oz, 0, 0, 0);
+        }
 
-                for (int i = 0; i < 10; i++) {
-                    double ox = (level.random.nextDouble() - 0.5) * EXPLOSION_RADIUS;
-                    double oy = (level.random.nextDouble() - 0.5) * EXPLOSION_RADIUS;
-                    double oz = (level.random.nextDouble() - 0.5) * EXPLOSION_RADIUS;
+        for (int i = 0; i < 10; i++) {
+            double ox = (level.random.nextDouble() - 0.5) * explosionRadius;
+            double oy = (level.random.nextDouble() - 0.5) * explosionRadius;
+            double oz = (level.random.nextDouble() - 0.5) * explosionRadius;
 
-                    serverLevel.sendParticles(player, ParticleTypes.EXPLOSION_EMITTER, true,
-                            pos.x + ox, pos.y + oy, pos.z + oz,
-                            1, 0, 0, 0, 0);
-                }
-            }
+            level.addAlwaysVisibleParticle(ParticleTypes.EXPLOSION_EMITTER, x + ox, y + oy, z + oz, 0, 0, 0);
         }
     }
     
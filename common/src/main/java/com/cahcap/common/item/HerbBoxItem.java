@@ -4,6 +4,7 @@ import com.cahcap.common.block.HerbCabinetBlock;
 import com.cahcap.common.block.HerbVaultBlock;
 import com.cahcap.common.blockentity.HerbCabinetBlockEntity;
 import com.cahcap.common.blockentity.HerbVaultBlockEntity;
+import com.cahcap.common.item.component.HerbBoxContents;
 import com.cahcap.common.registry.ModRegistries;
 import com.cahcap.common.util.HerbRegistry;
 import net.minecraft.ChatFormatting;
@@ -16,6 +17,7 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.InteractionResultHolder;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -26,6 +28,8 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
 import java.util.List;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
 
 /**
  * Herb Box item - a portable herb storage container
@@ -35,24 +39,60 @@ public class HerbBoxItem extends Item {
     
     private static final int MAX_CAPACITY = 512;
     
-    // Herb registry keys delegated to HerbRegistry
+    // Per-herb key prefix used by the legacy CustomData storage
+    private static final String LEGACY_PREFIX = "herb_";
     
     public HerbBoxItem(Properties properties) {
         super(properties);
     }
     
+    // ==================== Storage ====================
+    
+    /**
+     * Get the herb counts stored in this box. The returned component is immutable and shared with the stack.
+     */
+    public static HerbBoxContents getContents(ItemStack stack) {
+        HerbBoxContents contents = stack.get(ModRegistries.HERB_BOX_CONTENTS.get());
+        if (contents == null) {
+            CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
+            // Not migrated yet (e.g. still sitting in a chest), read the old tag without writing
+            contents = customData != null && hasLegacyData(customData)
+                    ? readLegacyContents(customData.getUnsafe())
+                    : HerbBoxContents.EMPTY;
+        }
+        return contents;
+    }
+    
+    /**
+     * Replace all herb counts at once, clamped to the box capacity.
+     */
+    public static void setContents(ItemStack stack, int[] counts) {
+        migrateLegacyData(stack);
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = Math.max(0, Math.min(counts[i], MAX_CAPACITY));
+        }
+        HerbBoxContents contents = HerbBoxContents.of(counts);
+        if (contents.isEmpty()) {
+            stack.remove(ModRegistries.HERB_BOX_CONTENTS.get());
+        } else {
+            stack.set(ModRegistries.HERB_BOX_CONTENTS.get(), contents);
+        }
+    }
+    
+    public static int getHerbAmount(ItemStack stack, int herbIndex) {
+        return getContents(stack).get(herbIndex);
+    }
+    
     public static int getHerbAmount(ItemStack stack, String herbKey) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) return 0;
-        CompoundTag tag = customData.copyTag();
-        return tag.getInt("herb_" + herbKey);
+        return getHerbAmount(stack, HerbRegistry.getHerbIndexByKey(herbKey));
     }
     
     public static void setHerbAmount(ItemStack stack, String herbKey, int amount) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-        tag.putInt("herb_" + herbKey, Math.max(0, Math.min(amount, MAX_CAPACITY)));
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        int index = HerbRegistry.getHerbIndexByKey(herbKey);
+        if (index < 0) return;
+        int[] counts = getContents(stack).toArray(HerbRegistry.getHerbCount());
+        counts[index] = amount;
+        setContents(stack, counts);
     }
     
     public static int addHerb(ItemStack stack, String herbKey, int amount) {
@@ -73,6 +113,50 @@ public class HerbBoxItem extends Item {
         return canRemove;
     }
     
+    // ==================== Legacy Migration ====================
+    
+    private static boolean hasLegacyData(CustomData customData) {
+        for (int i = 0; i < HerbRegistry.getHerbCount(); i++) {
+            if (customData.contains(LEGACY_PREFIX + HerbRegistry.getHerbKey(i))) return true;
+        }
+        return false;
+    }
+    
+    private static HerbBoxContents readLegacyContents(CompoundTag tag) {
+        int[] counts = new int[HerbRegistry.getHerbCount()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = tag.getInt(LEGACY_PREFIX + HerbRegistry.getHerbKey(i));
+        }
+        return HerbBoxContents.of(counts);
+    }
+    
+    /**
+     * Move herb counts saved in CustomData by older versions into the typed component, once.
+     * Unrelated CustomData entries are kept.
+     */
+    public static void migrateLegacyData(ItemStack stack) {
+        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
+        if (customData == null || !hasLegacyData(customData)) {
+            return;
+        }
+        HerbBoxContents contents = readLegacyContents(customData.getUnsafe());
+        if (!contents.isEmpty() && !stack.has(ModRegistries.HERB_BOX_CONTENTS.get())) {
+            stack.set(ModRegistries.HERB_BOX_CONTENTS.get(), contents);
+        }
+        CustomData.update(DataComponents.CUSTOM_DATA, stack, legacy -> {
+            for (String key : HerbRegistry.getAllHerbKeys()) {
+                legacy.remove(LEGACY_PREFIX + key);
+            }
+        });
+    }
+    
+    @Override
+    public void inventoryTick(ItemStack stack, Level level, Entity entity, int slotId, boolean isSelected) {
+        if (!level.isClientSide) {
+            migrateLegacyData(stack);
+        }
+    }
+    
     @Override
     public InteractionResultHolder<ItemStack> use(Level level, Player player, InteractionHand hand) {
         ItemStack stack = player.getItemInHand(hand);
@@ -97,10 +181,7 @@ public class HerbBoxItem extends Item {
     }
 
     private static boolean boxHasAnyHerb(ItemStack box) {
-        for (int i = 0; i < HerbRegistry.getHerbCount(); i++) {
-            if (getHerbAmount(box, HerbRegistry.getHerbKey(i)) > 0) return true;
-        }
-        return false;
+        return !getContents(box).isEmpty();
     }
 
     private static boolean inventoryHasAnyHerb(Player player) {
@@ -183,35 +264,45 @@ public class HerbBoxItem extends Item {
         return InteractionResult.PASS;
     }
     
+    /**
+     * Move loose herbs from the player inventory into the box in one pass over the inventory.
+     */
     private void collectHerbsFromInventory(ItemStack box, Player player) {
-        for (int i = 0; i < HerbRegistry.getHerbCount(); i++) {
-            collectHerb(box, player, HerbRegistry.getHerbByIndex(i), HerbRegistry.getHerbKey(i));
-        }
-    }
-    
-    private void collectHerb(ItemStack box, Player player, Item herb, String herbKey) {
+        int[] counts = getContents(box).toArray(HerbRegistry.getHerbCount());
+        boolean changed = false;
         for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
             ItemStack invStack = player.getInventory().getItem(i);
-            if (invStack.isEmpty() || !invStack.is(herb)) continue;
+            if (invStack.isEmpty()) continue;
+            int index = HerbRegistry.getHerbIndex(invStack.getItem());
+            if (index < 0) continue;
             
-            int toAdd = Math.min(invStack.getCount(), MAX_CAPACITY - getHerbAmount(box, herbKey));
+            int toAdd = Math.min(invStack.getCount(), MAX_CAPACITY - counts[index]);
             if (toAdd > 0) {
-                addHerb(box, herbKey, toAdd);
+                counts[index] += toAdd;
                 invStack.shrink(toAdd);
+                changed = true;
             }
-            
-            if (getHerbAmount(box, herbKey) >= MAX_CAPACITY) break;
+        }
+        if (changed) {
+            setContents(box, counts);
         }
     }
     
+    /**
+     * Move every stored herb into the player inventory, writing the box once.
+     */
     private void extractHerbsToInventory(ItemStack box, Player player) {
+        int[] counts = getContents(box).toArray(HerbRegistry.getHerbCount());
         for (int i = 0; i < HerbRegistry.getHerbCount(); i++) {
-            extractHerb(box, player, HerbRegistry.getHerbByIndex(i), HerbRegistry.getHerbKey(i));
+            counts[i] = extractHerb(player, HerbRegistry.getHerbByIndex(i), counts[i]);
         }
+        setContents(box, counts);
     }
     
-    private void extractHerb(ItemStack box, Player player, Item herb, String herbKey) {
-        int amount = getHerbAmount(box, herbKey);
+    /**
+     * @return amount left in the box
+     */
+    private int extractHerb(Player player, Item herb, int amount) {
         while (amount > 0) {
             // Ensure we never create a stack larger than the max stack size (64)
             int stackSize = Math.min(amount, herb.getDefaultMaxStackSize());
@@ -223,21 +314,20 @@ public class HerbBoxItem extends Item {
                 break;
             }
         }
-        setHerbAmount(box, herbKey, amount);
+        return amount;
     }
     
     @Override
     public void appendHoverText(ItemStack stack, TooltipContext context, List<Component> tooltip, TooltipFlag flag) {
         super.appendHoverText(stack, context, tooltip, flag);
         
+        HerbBoxContents contents = getContents(stack);
         for (int i = 0; i < HerbRegistry.getHerbCount(); i++) {
-            String key = HerbRegistry.getHerbKey(i);
-            addHerbTooltip(tooltip, stack, key, "item.herbalcurative." + key);
+            addHerbTooltip(tooltip, contents.get(i), "item.herbalcurative." + HerbRegistry.getHerbKey(i));
         }
     }
     
-    private void addHerbTooltip(List<Component> tooltip, ItemStack stack, String herbKey, String translationKey) {
-        int amount = getHerbAmount(stack, herbKey);
+    private void addHerbTooltip(List<Component> tooltip, int amount, String translationKey) {
         if (amount > 0) {
             tooltip.add(Component.translatable(translationKey)
                     .append(": " + amount)
@@ -249,11 +339,7 @@ public class HerbBoxItem extends Item {
      * Fill the box from the herb cabinet
      */
     private void fillFromCabinet(ItemStack box, HerbCabinetBlockEntity cabinet, Player player) {
-        boolean anyTransferred = false;
-        
-        for (String key : HerbRegistry.getAllHerbKeys()) {
-            anyTransferred |= fillHerbFromCabinet(box, cabinet, key);
-        }
+        boolean anyTransferred = fillFromStorage(box, cabinet::getHerbAmount, cabinet::removeHerb);
         cabinet.setChanged();
         
         // Play pickup sound if any herbs were transferred
@@ -271,32 +357,11 @@ public class HerbBoxItem extends Item {
         }
     }
 
-    private boolean fillHerbFromCabinet(ItemStack box, HerbCabinetBlockEntity cabinet, String herbKey) {
-        int boxCurrent = getHerbAmount(box, herbKey);
-        int needed = MAX_CAPACITY - boxCurrent;
-
-        if (needed > 0) {
-            int cabinetAmount = cabinet.getHerbAmount(herbKey);
-            int toTake = Math.min(needed, cabinetAmount);
-
-            if (toTake > 0) {
-                cabinet.removeHerb(herbKey, toTake);
-                addHerb(box, herbKey, toTake);
-                return true; // Herbs were transferred
-            }
-        }
-        return false; // No herbs transferred
-    }
-
     /**
      * Transfer herbs from box to cabinet
      */
     private void transferToCabinet(ItemStack box, HerbCabinetBlockEntity cabinet, Player player) {
-        boolean anyTransferred = false;
-        
-        for (String key : HerbRegistry.getAllHerbKeys()) {
-            anyTransferred |= transferHerbToCabinet(box, cabinet, key);
-        }
+        boolean anyTransferred = transferToStorage(box, cabinet::addHerb);
         cabinet.setChanged();
         
         // Play place sound (lower pitch than pickup) if any herbs were transferred
@@ -314,37 +379,56 @@ public class HerbBoxItem extends Item {
         }
     }
 
-    private boolean transferHerbToCabinet(ItemStack box, HerbCabinetBlockEntity cabinet, String herbKey) {
-        int boxAmount = getHerbAmount(box, herbKey);
-
-        if (boxAmount > 0) {
-            int added = cabinet.addHerb(herbKey, boxAmount);
+    /**
+     * Top up every herb from a storage block in one pass, writing the box once.
+     * @param available herb -> amount stored
+     * @param remove    (herb, amount) -> amount actually removed
+     */
+    private static boolean fillFromStorage(ItemStack box, ToIntFunction<Item> available,
+                                           ToIntBiFunction<Item, Integer> remove) {
+        int[] counts = getContents(box).toArray(HerbRegistry.getHerbCount());
+        boolean anyTransferred = false;
+        for (int i = 0; i < HerbRegistry.getHerbCount(); i++) {
+            int needed = MAX_CAPACITY - counts[i];
+            if (needed <= 0) continue;
+            Item herb = HerbRegistry.getHerbByIndex(i);
+            int toTake = Math.min(needed, available.applyAsInt(herb));
+            if (toTake > 0) {
+                counts[i] += remove.applyAsInt(herb, toTake);
+                anyTransferred = true;
+            }
+        }
+        if (anyTransferred) {
+            setContents(box, counts);
+        }
+        return anyTransferred;
+    }
 
+    /**
+     * Empty every herb into a storage block in one pass, writing the box once.
+     * @param add (herb, amount) -> amount actually added
+     */
+    private static boolean transferToStorage(ItemStack box, ToIntBiFunction<Item, Integer> add) {
+        int[] counts = getContents(box).toArray(HerbRegistry.getHerbCount());
+        boolean anyTransferred = false;
+        for (int i = 0; i < HerbRegistry.getHerbCount(); i++) {
+            if (counts[i] <= 0) continue;
+            int added = add.applyAsInt(HerbRegistry.getHerbByIndex(i), counts[i]);
             if (added > 0) {
-                removeHerb(box, herbKey, added);
-                return true;
+                counts[i] -= added;
+                anyTransferred = true;
             }
         }
-        return false;
+        if (anyTransferred) {
+            setContents(box, counts);
+        }
+        return anyTransferred;
     }
 
     // ==================== Herb Vault interaction ====================
 
     private void fillFromVault(ItemStack box, HerbVaultBlockEntity vault, Player player) {
-        boolean anyTransferred = false;
-        for (String key : HerbRegistry.getAllHerbKeys()) {
-            int boxCurrent = getHerbAmount(box, key);
-            int needed = MAX_CAPACITY - boxCurrent;
-            if (needed > 0) {
-                int available = vault.getHerbAmount(key);
-                int toTake = Math.min(needed, available);
-                if (toTake > 0) {
-                    vault.removeHerb(key, toTake);
-                    addHerb(box, key, toTake);
-                    anyTransferred = true;
-                }
-            }
-        }
+        boolean anyTransferred = fillFromStorage(box, vault::getHerbAmount, vault::removeHerb);
         vault.setChanged();
         if (anyTransferred && player != null) {
             player.level().playSound(null, player.getX(), player.getY(), player.getZ(),
@@ -354,17 +438,7 @@ public class HerbBoxItem extends Item {
     }
 
     private void transferToVault(ItemStack box, HerbVaultBlockEntity vault, Player player) {
-        boolean anyTransferred = false;
-        for (String key : HerbRegistry.getAllHerbKeys()) {
-            int boxAmount = getHerbAmount(box, key);
-            if (boxAmount > 0) {
-                int added = vault.addHerb(key, boxAmount);
-                if (added > 0) {
-                    removeHerb(box, key, added);
-                    anyTransferred = true;
-                }
-            }
-        }
+        boolean anyTransferred = transferToStorage(box, vault::addHerb);
         vault.setChanged();
         if (anyTransferred && player != null) {
             player.level().playSound(null, player.getX(), player.getY(), player.getZ(),
@@ -2,6 +2,8 @@ package com.cahcap.common.item;
 
 import com.cahcap.common.blockentity.cauldron.CauldronBlockEntity;
 import com.cahcap.common.blockentity.cauldron.CauldronFluid;
+import com.cahcap.common.item.component.BoundPotion;
+import com.cahcap.common.item.component.PotContents;
 import com.cahcap.common.registry.ModRegistries;
 import com.cahcap.common.util.PotionHelper;
 import net.minecraft.ChatFormatting;
@@ -16,7 +18,7 @@ import net.minecraft.world.InteractionResult;
 import net.minecraft.world.InteractionResultHolder;
 import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.effect.MobEffectInstance;
-import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
@@ -29,7 +31,6 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.core.Holder;
 import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.resources.ResourceLocation;
 
 import java.util.List;
 
@@ -48,7 +49,7 @@ import java.util.List;
  */
 public class PotItem extends Item {
     
-    // NBT keys for potion data stored in CustomData component
+    // Legacy CustomData keys, only read when migrating pots filled before the typed component existed
     private static final String TAG_POTION_TYPES = "PotionTypes";  // List of effect IDs
     private static final String TAG_POTION_TYPE = "PotionType";    // Legacy single effect
     private static final String TAG_POTION_COLOR = "PotionColor";
@@ -110,21 +111,18 @@ public class PotItem extends Item {
         }
 
         // Restore potion from pot data
-        java.util.List<String> potionTypes = getPotionTypes(potStack);
+        PotContents contents = getContents(potStack);
+        if (contents == null) return InteractionResult.PASS;
         java.util.List<MobEffect> effects = new java.util.ArrayList<>();
-        for (String type : potionTypes) {
-            ResourceLocation id = ResourceLocation.tryParse(type);
-            if (id != null) {
-                MobEffect effect = BuiltInRegistries.MOB_EFFECT.get(id);
-                if (effect != null) effects.add(effect);
-            }
+        for (Holder<MobEffect> effect : contents.potion().effects()) {
+            effects.add(effect.value());
         }
         if (effects.isEmpty()) return InteractionResult.PASS;
 
-        int units = getUses(potStack);
-        int duration = getDuration(potStack);
-        int amplifier = getLevel(potStack) - 1;
-        int color = getPotionColor(potStack);
+        int units = contents.uses();
+        int duration = contents.potion().duration();
+        int amplifier = contents.potion().level() - 1;
+        int color = contents.potion().color();
 
         // Fill cauldron with water first, then convert to potion
         master.addFluid(net.minecraft.world.level.material.Fluids.WATER, 1000);
@@ -147,20 +145,16 @@ public class PotItem extends Item {
             return InteractionResult.PASS;
         }
 
-        // Get effect IDs for pot
-        java.util.List<String> effectIds = new java.util.ArrayList<>();
+        // Get effect holders for pot
+        java.util.List<Holder<MobEffect>> effects = new java.util.ArrayList<>();
         for (MobEffect effect : master.getFluid().getEffects()) {
-            ResourceLocation effectResLoc = BuiltInRegistries.MOB_EFFECT.getKey(effect);
-            if (effectResLoc != null) {
-                effectIds.add(effectResLoc.toString());
-            }
+            effects.add(BuiltInRegistries.MOB_EFFECT.wrapAsHolder(effect));
         }
 
         // Fill the pot with remaining potion units, store base (undiluted) color
         int units = master.getFluid().getPotionUnits();
-        fillPot(potStack, effectIds, master.getFluid().getBaseColor(),
-                master.getPotionDuration(), master.getPotionLevel());
-        setUses(potStack, units);
+        fillPot(potStack, effects, master.getFluid().getBaseColor(),
+                master.getPotionDuration(), master.getPotionLevel(), units);
 
         // Return any floating materials and output slot to player
         if (player != null) {
@@ -194,12 +188,13 @@ public class PotItem extends Item {
     @Override
     public ItemStack finishUsingItem(ItemStack stack, Level level, LivingEntity entity) {
         if (!level.isClientSide && entity instanceof Player player) {
-            if (isFilled(stack)) {
+            PotContents contents = getContents(stack);
+            if (contents != null) {
                 // Apply effect
-                applyPotionEffect(stack, player);
+                applyPotionEffect(contents.potion(), player);
                 
                 // Decrease uses
-                int uses = getUses(stack) - 1;
+                int uses = contents.uses() - 1;
                 if (uses <= 0) {
                     // Empty the pot when all uses are consumed
                     emptyPot(stack);
@@ -235,199 +230,128 @@ public class PotItem extends Item {
         return InteractionResultHolder.pass(stack);
     }
     
-    // ==================== NBT Helpers ====================
-    
-    public static boolean isFilled(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
-            return false;
+    @Override
+    public void inventoryTick(ItemStack stack, Level level, Entity entity, int slotId, boolean isSelected) {
+        if (!level.isClientSide) {
+            migrateLegacyData(stack);
         }
-        return customData.copyTag().getBoolean(TAG_FILLED);
     }
     
+    // ==================== Component Helpers ====================
+    
     /**
-     * Fill pot with multiple effects
+     * Get the potion held by this pot, or null if empty.
+     * The returned component is immutable and shared with the stack.
      */
-    public static void fillPot(ItemStack stack, java.util.List<String> potionTypes, int color, int duration, int level) {
-        CompoundTag tag = new CompoundTag();
-        tag.putBoolean(TAG_FILLED, true);
-        
-        // Store effects as a list
-        net.minecraft.nbt.ListTag effectsList = new net.minecraft.nbt.ListTag();
-        for (String effectId : potionTypes) {
-            effectsList.add(net.minecraft.nbt.StringTag.valueOf(effectId));
-        }
-        tag.put(TAG_POTION_TYPES, effectsList);
-        
-        // Also store first effect for backwards compatibility
-        if (!potionTypes.isEmpty()) {
-            tag.putString(TAG_POTION_TYPE, potionTypes.get(0));
+    public static PotContents getContents(ItemStack stack) {
+        PotContents contents = stack.get(ModRegistries.POT_CONTENTS.get());
+        if (contents == null && hasLegacyData(stack)) {
+            // Not migrated yet (e.g. still sitting in a chest), read the old tag without writing
+            contents = readLegacyContents(stack.get(DataComponents.CUSTOM_DATA).getUnsafe());
         }
-        
-        tag.putInt(TAG_POTION_COLOR, color);
-        tag.putInt(TAG_DURATION, duration);
-        tag.putInt(TAG_LEVEL, level);
-        tag.putInt(TAG_USES, MAX_USES);
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        return contents;
+    }
+    
+    public static boolean isFilled(ItemStack stack) {
+        return getContents(stack) != null;
     }
     
     /**
-     * Fill pot with single effect (backwards compatible)
+     * Fill pot with multiple effects
      */
-    public static void fillPot(ItemStack stack, String potionType, int color, int duration, int level) {
-        fillPot(stack, java.util.List.of(potionType), color, duration, level);
+    public static void fillPot(ItemStack stack, java.util.List<Holder<MobEffect>> effects, int color, int duration, int level, int uses) {
+        migrateLegacyData(stack);
+        stack.set(ModRegistries.POT_CONTENTS.get(),
+                new PotContents(new BoundPotion(effects, color, duration, level), uses));
     }
     
     public static void emptyPot(ItemStack stack) {
-        CompoundTag tag = new CompoundTag();
-        tag.putBoolean(TAG_FILLED, false);
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        migrateLegacyData(stack);
+        stack.remove(ModRegistries.POT_CONTENTS.get());
     }
     
     public static int getUses(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
-            return 0;
-        }
-        int uses = customData.copyTag().getInt(TAG_USES);
-        return uses > 0 ? uses : MAX_USES; // Default to MAX_USES for old pots
+        PotContents contents = getContents(stack);
+        return contents != null ? contents.uses() : 0;
     }
     
     public static void setUses(ItemStack stack, int uses) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) return;
-        
-        CompoundTag tag = customData.copyTag();
-        tag.putInt(TAG_USES, uses);
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        migrateLegacyData(stack);
+        PotContents contents = stack.get(ModRegistries.POT_CONTENTS.get());
+        if (contents == null) return;
+        stack.set(ModRegistries.POT_CONTENTS.get(), contents.withUses(uses));
     }
     
-    /**
-     * Get all effect IDs from the pot
-     */
-    public static java.util.List<String> getPotionTypes(ItemStack stack) {
-        java.util.List<String> effectIds = new java.util.ArrayList<>();
+    // ==================== Legacy Migration ====================
+    
+    private static boolean hasLegacyData(ItemStack stack) {
         CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
-            return effectIds;
-        }
-        
-        CompoundTag tag = customData.copyTag();
-        
-        // Try new list format first
-        if (tag.contains(TAG_POTION_TYPES)) {
-            net.minecraft.nbt.ListTag effectsList = tag.getList(TAG_POTION_TYPES, net.minecraft.nbt.Tag.TAG_STRING);
-            for (int i = 0; i < effectsList.size(); i++) {
-                effectIds.add(effectsList.getString(i));
-            }
-        } else if (tag.contains(TAG_POTION_TYPE)) {
-            // Fallback to legacy single effect
-            String legacyType = tag.getString(TAG_POTION_TYPE);
-            if (!legacyType.isEmpty()) {
-                effectIds.add(legacyType);
-            }
-        }
-        
-        return effectIds;
+        return customData != null && customData.contains(TAG_FILLED);
     }
     
     /**
-     * Get first effect ID (for backwards compatibility)
+     * Move pot data saved in CustomData by older versions into the typed component, once.
+     * Unrelated CustomData entries are kept.
      */
-    public static String getPotionType(ItemStack stack) {
-        java.util.List<String> types = getPotionTypes(stack);
-        return types.isEmpty() ? "" : types.get(0);
-    }
-    
-    public static int getPotionColor(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
-            return 0x3F76E4;
+    public static void migrateLegacyData(ItemStack stack) {
+        if (!hasLegacyData(stack)) {
+            return;
         }
-        return customData.copyTag().getInt(TAG_POTION_COLOR);
-    }
-    
-    public static int getDuration(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
-            return 0;
+        PotContents contents = readLegacyContents(stack.get(DataComponents.CUSTOM_DATA).getUnsafe());
+        if (contents != null && !stack.has(ModRegistries.POT_CONTENTS.get())) {
+            stack.set(ModRegistries.POT_CONTENTS.get(), contents);
         }
-        return customData.copyTag().getInt(TAG_DURATION);
+        CustomData.update(DataComponents.CUSTOM_DATA, stack, legacy -> {
+            legacy.remove(TAG_FILLED);
+            legacy.remove(TAG_POTION_TYPES);
+            legacy.remove(TAG_POTION_TYPE);
+            legacy.remove(TAG_POTION_COLOR);
+            legacy.remove(TAG_DURATION);
+            legacy.remove(TAG_LEVEL);
+            legacy.remove(TAG_USES);
+        });
     }
     
-    public static int getLevel(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
-            return 1;
+    private static PotContents readLegacyContents(CompoundTag tag) {
+        if (!tag.getBoolean(TAG_FILLED)) {
+            return null;
         }
-        return customData.copyTag().getInt(TAG_LEVEL);
-    }
-    
-    private void applyPotionEffect(ItemStack stack, Player player) {
-        java.util.List<String> potionTypes = getPotionTypes(stack);
-        int amplifier = getLevel(stack) - 1; // MobEffectInstance uses 0-based amplifier
-        int durationTicks = getDuration(stack) * 20; // Convert seconds to ticks
         
-        for (String potionType : potionTypes) {
-            Holder<MobEffect> effect = getEffectForType(potionType);
-            if (effect != null) {
-                // Check if this is an instant effect using vanilla API
-                boolean isInstant = isInstantEffect(effect);
-                
-                if (isInstant) {
-                    // Use vanilla's applyInstantenousEffect for immediate application
-                    // Parameters: source entity, owner entity, target, amplifier, proximity (1.0 = full effect)
-                    effect.value().applyInstantenousEffect(null, player, player, amplifier, 1.0);
-                } else {
-                    player.addEffect(new MobEffectInstance(effect, durationTicks, amplifier));
-                }
-            }
-        }
+        BoundPotion potion = BoundPotion.readLegacy(tag);
+        int uses = tag.getInt(TAG_USES);
+        return new PotContents(potion, uses > 0 ? uses : MAX_USES); // Default to MAX_USES for old pots
     }
     
-    /**
-     * Get effect holder from registry ID string.
-     * Uses dynamic registry lookup instead of hardcoded switch.
-     */
-    private Holder<MobEffect> getEffectForType(String type) {
-        return PotionHelper.getEffectForType(type);
-    }
-    
-    /**
-     * Check if an effect is instantaneous (like heal/harm) using vanilla API.
-     */
-    private boolean isInstantEffect(Holder<MobEffect> effect) {
-        return PotionHelper.isInstantEffect(effect);
-    }
-    
-    /**
-     * Get effect display name from registry.
-     */
-    private String getEffectDisplayName(String type) {
-        ResourceLocation id = ResourceLocation.tryParse(type);
-        if (id != null) {
-            MobEffect effect = BuiltInRegistries.MOB_EFFECT.get(id);
-            if (effect != null) {
-                return effect.getDisplayName().getString();
+    private void applyPotionEffect(BoundPotion potion, Player player) {
+        int amplifier = potion.level() - 1; // MobEffectInstance uses 0-based amplifier
+        int durationTicks = potion.duration() * 20; // Convert seconds to ticks
+        
+        for (Holder<MobEffect> effect : potion.effects()) {
+            // Check if this is an instant effect using vanilla API
+            if (PotionHelper.isInstantEffect(effect)) {
+                // Use vanilla's applyInstantenousEffect for immediate application
+                // Parameters: source entity, owner entity, target, amplifier, proximity (1.0 = full effect)
+                effect.value().applyInstantenousEffect(null, player, player, amplifier, 1.0);
+            } else {
+                player.addEffect(new MobEffectInstance(effect, durationTicks, amplifier));
             }
         }
-        return "Unknown";
     }
     
     @Override
     public void appendHoverText(ItemStack stack, TooltipContext context, List<Component> tooltip, TooltipFlag flag) {
-        if (isFilled(stack)) {
-            java.util.List<String> types = getPotionTypes(stack);
-            int duration = getDuration(stack);
-            int level = getLevel(stack);
-            int uses = getUses(stack);
+        PotContents contents = getContents(stack);
+        if (contents != null) {
+            BoundPotion potion = contents.potion();
+            int duration = potion.duration();
+            int level = potion.level();
+            int uses = contents.uses();
             
             // Potion effects - each effect on its own line
             tooltip.add(Component.literal("Potion of")
                     .withStyle(ChatFormatting.LIGHT_PURPLE));
-            for (String type : types) {
-                String typeName = getEffectDisplayName(type);
-                tooltip.add(Component.literal("  " + typeName)
+            for (Holder<MobEffect> effect : potion.effects()) {
+                tooltip.add(Component.literal("  " + effect.value().getDisplayName().getString())
                         .withStyle(ChatFormatting.LIGHT_PURPLE));
             }
             
@@ -437,17 +361,8 @@ public class PotItem extends Item {
                         .withStyle(ChatFormatting.BLUE));
             }
             
-            // Check if any effect is instant (don't show duration if any effect is instant)
-            boolean isInstant = false;
-            for (String type : types) {
-                Holder<MobEffect> effect = getEffectForType(type);
-                if (isInstantEffect(effect)) {
-                    isInstant = true;
-                    break;
-                }
-            }
-            
-            if (!isInstant) {
+            // Don't show duration if any effect is instant
+            if (!potion.hasInstantEffect()) {
                 // Duration is stored in seconds, display as "mm:ss"
                 int minutes = duration / 60;
                 int seconds = duration % 60;
@@ -0,0 +1,77 @@
+package com.cahcap.common.item.component;
+
+import com.cahcap.common.util.PotionHelper;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.Holder;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.effect.MobEffect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Potion data carried by a bound Flowweave Ring or a filled Pot.
+ *
+ * @param effects  Effects of the potion, in brewing order
+ * @param color    Base (undiluted) potion color
+ * @param duration Effect duration in seconds
+ * @param level    Effect level (1-based)
+ */
+public record BoundPotion(List<Holder<MobEffect>> effects, int color, int duration, int level) {
+
+    public static final Codec<BoundPotion> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            MobEffect.CODEC.listOf().fieldOf("effects").forGetter(BoundPotion::effects),
+            Codec.INT.fieldOf("color").forGetter(BoundPotion::color),
+            Codec.INT.fieldOf("duration").forGetter(BoundPotion::duration),
+            Codec.INT.optionalFieldOf("level", 1).forGetter(BoundPotion::level)
+    ).apply(instance, BoundPotion::new));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, BoundPotion> STREAM_CODEC = StreamCodec.composite(
+            MobEffect.STREAM_CODEC.apply(ByteBufCodecs.list()), BoundPotion::effects,
+            ByteBufCodecs.INT, BoundPotion::color,
+            ByteBufCodecs.VAR_INT, BoundPotion::duration,
+            ByteBufCodecs.VAR_INT, BoundPotion::level,
+            BoundPotion::new);
+
+    public BoundPotion {
+        effects = List.copyOf(effects);
+    }
+
+    /**
+     * Read the potion fields shared by the legacy Flowweave Ring and Pot CustomData tags.
+     * Unknown effect ids are dropped.
+     */
+    public static BoundPotion readLegacy(CompoundTag tag) {
+        List<Holder<MobEffect>> effects = new ArrayList<>();
+        if (tag.contains("PotionTypes")) {
+            ListTag effectsList = tag.getList("PotionTypes", Tag.TAG_STRING);
+            for (int i = 0; i < effectsList.size(); i++) {
+                Holder<MobEffect> effect = PotionHelper.getEffectForType(effectsList.getString(i));
+                if (effect != null) effects.add(effect);
+            }
+        } else if (tag.contains("PotionType")) {
+            // Older single-effect format
+            Holder<MobEffect> effect = PotionHelper.getEffectForType(tag.getString("PotionType"));
+            if (effect != null) effects.add(effect);
+        }
+        return new BoundPotion(effects, tag.getInt("PotionColor"), tag.getInt("Duration"), tag.getInt("Level"));
+    }
+
+    /**
+     * Whether any of the effects is instantaneous (heal/harm), in which case duration is meaningless.
+     */
+    public boolean hasInstantEffect() {
+        for (Holder<MobEffect> effect : effects) {
+            if (PotionHelper.isInstantEffect(effect)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.cahcap.common.item.component;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.item.Item;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Potion bound to a Flowweave Ring, together with the herbs consumed per cast (before the casting mode multiplier).
+ */
+public record FlowweaveBinding(BoundPotion potion, Map<Item, Integer> herbCost) {
+
+    public static final Codec<FlowweaveBinding> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            BoundPotion.CODEC.fieldOf("potion").forGetter(FlowweaveBinding::potion),
+            Codec.unboundedMap(BuiltInRegistries.ITEM.byNameCodec(), Codec.INT)
+                    .optionalFieldOf("herb_cost", Map.of()).forGetter(FlowweaveBinding::herbCost)
+    ).apply(instance, FlowweaveBinding::new));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, FlowweaveBinding> STREAM_CODEC = StreamCodec.composite(
+            BoundPotion.STREAM_CODEC, FlowweaveBinding::potion,
+            ByteBufCodecs.map(HashMap::new, ByteBufCodecs.registry(Registries.ITEM), ByteBufCodecs.VAR_INT),
+            FlowweaveBinding::herbCost,
+            FlowweaveBinding::new);
+
+    public FlowweaveBinding {
+        herbCost = Map.copyOf(herbCost);
+    }
+}
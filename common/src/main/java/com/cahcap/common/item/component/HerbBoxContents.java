@@ -0,0 +1,85 @@
+package com.cahcap.common.item.component;
+
+import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Herb counts stored in a Herb Box, indexed by {@link com.cahcap.common.util.HerbRegistry} herb index.
+ * Immutable; edits go through {@link #toArray(int)} and {@link #of(int[])} so a bulk transfer writes the stack once.
+ */
+public final class HerbBoxContents {
+
+    public static final HerbBoxContents EMPTY = new HerbBoxContents(new int[0]);
+
+    // Saved as a plain int array tag
+    public static final Codec<HerbBoxContents> CODEC = Codec.INT_STREAM.xmap(
+            stream -> of(stream.toArray()),
+            contents -> IntStream.of(contents.counts));
+
+    public static final StreamCodec<ByteBuf, HerbBoxContents> STREAM_CODEC = StreamCodec.of(
+            (buf, contents) -> {
+                VarInt.write(buf, contents.counts.length);
+                for (int count : contents.counts) {
+                    VarInt.write(buf, count);
+                }
+            },
+            buf -> {
+                int[] counts = new int[VarInt.read(buf)];
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] = VarInt.read(buf);
+                }
+                return of(counts);
+            });
+
+    private final int[] counts;
+
+    private HerbBoxContents(int[] counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Contents holding a copy of the given counts, with trailing zeros dropped.
+     */
+    public static HerbBoxContents of(int[] counts) {
+        int length = counts.length;
+        while (length > 0 && counts[length - 1] <= 0) {
+            length--;
+        }
+        return length == 0 ? EMPTY : new HerbBoxContents(Arrays.copyOf(counts, length));
+    }
+
+    public int get(int index) {
+        return index >= 0 && index < counts.length ? counts[index] : 0;
+    }
+
+    public boolean isEmpty() {
+        return counts.length == 0;
+    }
+
+    /**
+     * Mutable copy of the counts, at least {@code size} long.
+     */
+    public int[] toArray(int size) {
+        return Arrays.copyOf(counts, Math.max(size, counts.length));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof HerbBoxContents other && Arrays.equals(counts, other.counts));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "HerbBoxContents" + Arrays.toString(counts);
+    }
+}
@@ -0,0 +1,27 @@
+package com.cahcap.common.item.component;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+/**
+ * Potion held by a filled Pot and the number of drinks left.
+ */
+public record PotContents(BoundPotion potion, int uses) {
+
+    public static final Codec<PotContents> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            BoundPotion.CODEC.fieldOf("potion").forGetter(PotContents::potion),
+            Codec.INT.fieldOf("uses").forGetter(PotContents::uses)
+    ).apply(instance, PotContents::new));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, PotContents> STREAM_CODEC = StreamCodec.composite(
+            BoundPotion.STREAM_CODEC, PotContents::potion,
+            ByteBufCodecs.VAR_INT, PotContents::uses,
+            PotContents::new);
+
+    public PotContents withUses(int uses) {
+        return new PotContents(potion, uses);
+    }
+}
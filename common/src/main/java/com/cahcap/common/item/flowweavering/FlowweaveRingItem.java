@@ -2,14 +2,20 @@ package com.cahcap.common.item.flowweavering;
 
 import com.cahcap.common.entity.FlowweaveProjectile;
 import com.cahcap.common.entity.ProjectileConfig;
-import com.cahcap.common.item.HerbBoxItem;
+import com.cahcap.common.item.component.BoundPotion;
+import com.cahcap.common.item.component.FlowweaveBinding;
+import com.cahcap.common.registry.ModRegistries;
 import com.cahcap.common.util.PotionHelper;
 import com.cahcap.common.util.HerbRegistry;
+import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.Holder;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.chat.Component;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -18,6 +24,7 @@ import net.minecraft.world.InteractionResult;
 import net.minecraft.world.InteractionResultHolder;
 import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
@@ -28,8 +35,6 @@ import net.minecraft.world.item.context.UseOnContext;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
-import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.resources.ResourceLocation;
 
 import java.util.HashMap;
 import java.util.List;
@@ -62,6 +67,11 @@ public class FlowweaveRingItem extends Item {
         BURST(1.5f, "Burst"),            // Shoot projectile, AOE buff, 1.5x herb cost (rounded down)
         ECHO(2.0f, "Echo");              // Shoot projectile, lingering cloud, 2x herb cost
         
+        // Stored by ordinal, matching the legacy CastingMode tag
+        public static final Codec<CastingMode> CODEC = Codec.INT.xmap(CastingMode::byOrdinal, CastingMode::ordinal);
+        public static final StreamCodec<ByteBuf, CastingMode> STREAM_CODEC =
+                ByteBufCodecs.VAR_INT.map(CastingMode::byOrdinal, CastingMode::ordinal);
+        
         private final float herbMultiplier;
         private final String displayName;
         
@@ -77,9 +87,14 @@ public class FlowweaveRingItem extends Item {
             CastingMode[] values = values();
             return values[(this.ordinal() + 1) % values.length];
         }
+        
+        public static CastingMode byOrdinal(int ordinal) {
+            CastingMode[] modes = values();
+            return ordinal >= 0 && ordinal < modes.length ? modes[ordinal] : INFUSION;
+        }
     }
     
-    // NBT keys for bound potion
+    // Legacy CustomData keys, only read when migrating rings bound before the typed components existed
     private static final String TAG_BOUND = "BoundPotion";
     private static final String TAG_POTION_TYPES = "PotionTypes";  // List of effect IDs
     private static final String TAG_POTION_TYPE = "PotionType";    // Legacy single effect
@@ -106,180 +121,101 @@ public class FlowweaveRingItem extends Item {
      * Check if this Flowweave Ring has a bound potion
      */
     public static boolean hasBoundPotion(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
-            return false;
-        }
-        return customData.copyTag().getBoolean(TAG_BOUND);
+        return getBinding(stack) != null;
     }
     
     /**
-     * Bind a potion to this Flowweave Ring
-     * Preserves the existing casting mode if set
-     * Supports multiple effects
+     * Get the bound potion and herb cost, or null if unbound.
+     * The returned component is immutable and shared with the stack.
      */
-    public static void bindPotion(ItemStack stack, List<String> potionTypes, int color, 
-                                   int duration, int level, Map<Item, Integer> herbCost) {
-        // Get existing tag to preserve casting mode
-        CustomData existingData = stack.get(DataComponents.CUSTOM_DATA);
-        CompoundTag tag = existingData != null ? existingData.copyTag() : new CompoundTag();
-        
-        tag.putBoolean(TAG_BOUND, true);
-        
-        // Store effects as a list
-        net.minecraft.nbt.ListTag effectsList = new net.minecraft.nbt.ListTag();
-        for (String effectId : potionTypes) {
-            effectsList.add(net.minecraft.nbt.StringTag.valueOf(effectId));
-        }
-        tag.put(TAG_POTION_TYPES, effectsList);
-        
-        // Also store first effect for backwards compatibility
-        if (!potionTypes.isEmpty()) {
-            tag.putString(TAG_POTION_TYPE, potionTypes.get(0));
-        }
-        
-        tag.putInt(TAG_POTION_COLOR, color);
-        tag.putInt(TAG_DURATION, duration);
-        tag.putInt(TAG_LEVEL, level);
-        
-        // Store herb costs
-        CompoundTag herbTag = new CompoundTag();
-        for (Map.Entry<Item, Integer> entry : herbCost.entrySet()) {
-            String key = entry.getKey().builtInRegistryHolder().key().location().toString();
-            herbTag.putInt(key, entry.getValue());
+    public static FlowweaveBinding getBinding(ItemStack stack) {
+        FlowweaveBinding binding = stack.get(ModRegistries.FLOWWEAVE_BINDING.get());
+        if (binding == null && hasLegacyData(stack)) {
+            // Not migrated yet (e.g. still sitting in a chest), read the old tag without writing
+            binding = readLegacyBinding(stack.get(DataComponents.CUSTOM_DATA).getUnsafe());
         }
-        tag.put(TAG_HERB_COST, herbTag);
-        
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        return binding;
     }
     
     /**
-     * Bind a single potion effect (backwards compatible)
+     * Bind a potion to this Flowweave Ring
+     * Preserves the existing casting mode if set
+     * Supports multiple effects
      */
-    public static void bindPotion(ItemStack stack, String potionType, int color, 
+    public static void bindPotion(ItemStack stack, List<Holder<MobEffect>> effects, int color, 
                                    int duration, int level, Map<Item, Integer> herbCost) {
-        bindPotion(stack, List.of(potionType), color, duration, level, herbCost);
+        migrateLegacyData(stack);
+        stack.set(ModRegistries.FLOWWEAVE_BINDING.get(),
+                new FlowweaveBinding(new BoundPotion(effects, color, duration, level), herbCost));
     }
     
     /**
      * Unbind the potion from this Flowweave Ring (clear all binding data)
      */
     public static void unbindPotion(ItemStack stack) {
-        // Remove custom data component to clear binding
-        stack.remove(DataComponents.CUSTOM_DATA);
+        migrateLegacyData(stack);
+        stack.remove(ModRegistries.FLOWWEAVE_BINDING.get());
+        stack.remove(ModRegistries.CASTING_MODE.get());
     }
     
     /**
-     * Get all bound potion effect IDs
+     * Get all bound potion effects
      */
-    public static List<String> getBoundPotionTypes(ItemStack stack) {
-        List<String> effectIds = new java.util.ArrayList<>();
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
-            return effectIds;
-        }
-        
-        CompoundTag tag = customData.copyTag();
-        
-        // Try new list format first
-        if (tag.contains(TAG_POTION_TYPES)) {
-            net.minecraft.nbt.ListTag effectsList = tag.getList(TAG_POTION_TYPES, net.minecraft.nbt.Tag.TAG_STRING);
-            for (int i = 0; i < effectsList.size(); i++) {
-                effectIds.add(effectsList.getString(i));
-            }
-        } else if (tag.contains(TAG_POTION_TYPE)) {
-            // Fallback to legacy single effect
-            String legacyType = tag.getString(TAG_POTION_TYPE);
-            if (!legacyType.isEmpty()) {
-                effectIds.add(legacyType);
-            }
-        }
-        
-        return effectIds;
-    }
-    
-    /**
-     * Get first bound potion type (for backwards compatibility)
-     */
-    public static String getBoundPotionType(ItemStack stack) {
-        List<String> types = getBoundPotionTypes(stack);
-        return types.isEmpty() ? "" : types.get(0);
+    public static List<Holder<MobEffect>> getBoundEffects(ItemStack stack) {
+        FlowweaveBinding binding = getBinding(stack);
+        return binding != null ? binding.potion().effects() : List.of();
     }
     
     /**
      * Get bound potion color
      */
     public static int getBoundPotionColor(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) return 0x3F76E4;
-        return customData.copyTag().getInt(TAG_POTION_COLOR);
+        FlowweaveBinding binding = getBinding(stack);
+        return binding != null ? binding.potion().color() : 0x3F76E4;
     }
     
     /**
      * Get bound potion duration (seconds)
      */
     public static int getBoundDuration(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) return 0;
-        return customData.copyTag().getInt(TAG_DURATION);
+        FlowweaveBinding binding = getBinding(stack);
+        return binding != null ? binding.potion().duration() : 0;
     }
     
     /**
      * Get bound potion level
      */
     public static int getBoundLevel(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) return 1;
-        return customData.copyTag().getInt(TAG_LEVEL);
+        FlowweaveBinding binding = getBinding(stack);
+        return binding != null ? binding.potion().level() : 1;
     }
     
     /**
-     * Get required herb costs
+     * Get required herb costs (immutable)
      */
     public static Map<Item, Integer> getHerbCost(ItemStack stack) {
-        Map<Item, Integer> costs = new HashMap<>();
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) return costs;
-        
-        CompoundTag tag = customData.copyTag();
-        if (!tag.contains(TAG_HERB_COST)) return costs;
-        
-        CompoundTag herbTag = tag.getCompound(TAG_HERB_COST);
-        for (String key : herbTag.getAllKeys()) {
-            Item herb = getHerbFromKey(key);
-            if (herb != null) {
-                costs.put(herb, herbTag.getInt(key));
-            }
-        }
-        return costs;
+        FlowweaveBinding binding = getBinding(stack);
+        return binding != null ? binding.herbCost() : Map.of();
     }
     
     /**
      * Get the current casting mode
      */
     public static CastingMode getCastingMode(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) return CastingMode.INFUSION;
-        
-        CompoundTag tag = customData.copyTag();
-        if (!tag.contains(TAG_CASTING_MODE)) return CastingMode.INFUSION;
-        
-        int ordinal = tag.getInt(TAG_CASTING_MODE);
-        CastingMode[] modes = CastingMode.values();
-        if (ordinal >= 0 && ordinal < modes.length) {
-            return modes[ordinal];
+        CastingMode mode = stack.get(ModRegistries.CASTING_MODE.get());
+        if (mode == null && hasLegacyData(stack)) {
+            CompoundTag tag = stack.get(DataComponents.CUSTOM_DATA).getUnsafe();
+            mode = CastingMode.byOrdinal(tag.getInt(TAG_CASTING_MODE));
         }
-        return CastingMode.INFUSION;
+        return mode != null ? mode : CastingMode.INFUSION;
     }
     
     /**
      * Set the casting mode
      */
     public static void setCastingMode(ItemStack stack, CastingMode mode) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        CompoundTag tag = customData != null ? customData.copyTag() : new CompoundTag();
-        tag.putInt(TAG_CASTING_MODE, mode.ordinal());
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        migrateLegacyData(stack);
+        stack.set(ModRegistries.CASTING_MODE.get(), mode);
     }
     
     /**
@@ -292,8 +228,63 @@ public class FlowweaveRingItem extends Item {
         return next;
     }
     
-    private static Item getHerbFromKey(String key) {
-        return HerbRegistry.getHerbByKeyContains(key);
+    // ==================== Legacy Migration ====================
+    
+    private static boolean hasLegacyData(ItemStack stack) {
+        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
+        return customData != null && (customData.contains(TAG_BOUND) || customData.contains(TAG_CASTING_MODE));
+    }
+    
+    /**
+     * Move binding data saved in CustomData by older versions into the typed components, once.
+     * Unrelated CustomData entries are kept.
+     */
+    public static void migrateLegacyData(ItemStack stack) {
+        if (!hasLegacyData(stack)) {
+            return;
+        }
+        CompoundTag tag = stack.get(DataComponents.CUSTOM_DATA).getUnsafe();
+        FlowweaveBinding binding = readLegacyBinding(tag);
+        if (binding != null && !stack.has(ModRegistries.FLOWWEAVE_BINDING.get())) {
+            stack.set(ModRegistries.FLOWWEAVE_BINDING.get(), binding);
+        }
+        if (tag.contains(TAG_CASTING_MODE) && !stack.has(ModRegistries.CASTING_MODE.get())) {
+            stack.set(ModRegistries.CASTING_MODE.get(), CastingMode.byOrdinal(tag.getInt(TAG_CASTING_MODE)));
+        }
+        CustomData.update(DataComponents.CUSTOM_DATA, stack, legacy -> {
+            legacy.remove(TAG_BOUND);
+            legacy.remove(TAG_POTION_TYPES);
+            legacy.remove(TAG_POTION_TYPE);
+            legacy.remove(TAG_POTION_COLOR);
+            legacy.remove(TAG_DURATION);
+            legacy.remove(TAG_LEVEL);
+            legacy.remove(TAG_HERB_COST);
+            legacy.remove(TAG_CASTING_MODE);
+        });
+    }
+    
+    private static FlowweaveBinding readLegacyBinding(CompoundTag tag) {
+        if (!tag.getBoolean(TAG_BOUND)) {
+            return null;
+        }
+        
+        Map<Item, Integer> herbCost = new HashMap<>();
+        CompoundTag herbTag = tag.getCompound(TAG_HERB_COST);
+        for (String key : herbTag.getAllKeys()) {
+            Item herb = HerbRegistry.getHerbByKeyContains(key);
+            if (herb != null) {
+                herbCost.put(herb, herbTag.getInt(key));
+            }
+        }
+        
+        return new FlowweaveBinding(BoundPotion.readLegacy(tag), herbCost);
+    }
+    
+    @Override
+    public void inventoryTick(ItemStack stack, Level level, Entity entity, int slotId, boolean isSelected) {
+        if (!level.isClientSide) {
+            migrateLegacyData(stack);
+        }
     }
     
     /**
@@ -340,18 +331,20 @@ public class FlowweaveRingItem extends Item {
      * Try to cast the bound potion effect based on current mode
      */
     private boolean tryCastPotion(Level level, Player player, ItemStack stack) {
-        if (!hasBoundPotion(stack)) {
+        FlowweaveBinding binding = getBinding(stack);
+        if (binding == null) {
             return false;
         }
         
         CastingMode mode = getCastingMode(stack);
+        BoundPotion potion = binding.potion();
         
         // Calculate adjusted herb cost based on mode
-        Map<Item, Integer> baseHerbCost = getHerbCost(stack);
-        Map<Item, Integer> adjustedCost = calculateAdjustedHerbCost(baseHerbCost, mode);
+        Map<Item, Integer> adjustedCost = calculateAdjustedHerbCost(binding.herbCost(), mode);
         
-        // Check if player has the required herbs
-        if (!hasRequiredHerbs(player, adjustedCost)) {
+        // Check if player has the required herbs (one pass over the inventory for both check and consume)
+        HerbLedger ledger = HerbLedger.of(player);
+        if (!ledger.canAfford(adjustedCost)) {
             // Play failure sound
             level.playSound(null, player.getX(), player.getY(), player.getZ(),
                     SoundEvents.VILLAGER_NO, SoundSource.PLAYERS, 1.0F, 1.0F);
@@ -360,38 +353,23 @@ public class FlowweaveRingItem extends Item {
         
         // Consume herbs
         if (!player.isCreative()) {
-            consumeHerbs(player, adjustedCost);
+            ledger.consume(adjustedCost);
         }
         
         // Get potion data - now supports multiple effects
-        List<String> potionTypes = getBoundPotionTypes(stack);
-        int amplifier = getBoundLevel(stack) - 1; // 0-based amplifier
-        int color = getBoundPotionColor(stack);
-        
-        // Convert to effect holders
-        List<Holder<MobEffect>> effects = new java.util.ArrayList<>();
-        for (String potionType : potionTypes) {
-            Holder<MobEffect> effect = getEffectForType(potionType);
-            if (effect != null) {
-                effects.add(effect);
-            }
-        }
+        List<Holder<MobEffect>> effects = potion.effects();
+        int amplifier = potion.level() - 1; // 0-based amplifier
+        int color = potion.color();
         
         if (effects.isEmpty()) {
             return false;
         }
         
         // Check if any effect is instant
-        boolean isInstant = false;
-        for (Holder<MobEffect> effect : effects) {
-            if (isInstantEffect(effect)) {
-                isInstant = true;
-                break;
-            }
-        }
+        boolean isInstant = potion.hasInstantEffect();
         
         // For instant effects, use duration of 1 tick; for others, convert seconds to ticks
-        int duration = isInstant ? 1 : getBoundDuration(stack) * 20;
+        int duration = isInstant ? 1 : potion.duration() * 20;
         
         switch (mode) {
             case INFUSION:
@@ -460,111 +438,6 @@ public class FlowweaveRingItem extends Item {
                 SoundEvents.ENDER_PEARL_THROW, SoundSource.PLAYERS, 0.5F, 0.4F / (level.getRandom().nextFloat() * 0.4F + 0.8F));
     }
     
-    private boolean hasRequiredHerbs(Player player, Map<Item, Integer> herbCost) {
-        for (Map.Entry<Item, Integer> entry : herbCost.entrySet()) {
-            int count = countItemTotal(player, entry.getKey());
-            if (count < entry.getValue()) {
-                return false;
-            }
-        }
-        return true;
-    }
-    
-    /**
-     * Count total available herbs from HerbBox items + player inventory
-     */
-    private int countItemTotal(Player player, Item item) {
-        int count = 0;
-        
-        // First count from HerbBox items in inventory
-        count += countItemInHerbBoxes(player, item);
-        
-        // Then count from player inventory (loose herbs)
-        for (ItemStack stack : player.getInventory().items) {
-            if (stack.is(item)) {
-                count += stack.getCount();
-            }
-        }
-        return count;
-    }
-    
-    /**
-     * Get the herbKey for an Item, used by HerbBoxItem storage
-     */
-    private String getHerbKeyForItem(Item item) {
-        return HerbRegistry.getKeyForHerb(item);
-    }
-    
-    /**
-     * Count herbs available in HerbBox items in player inventory
-     */
-    private int countItemInHerbBoxes(Player player, Item item) {
-        String herbKey = getHerbKeyForItem(item);
-        if (herbKey == null) return 0;
-        
-        int count = 0;
-        for (ItemStack stack : player.getInventory().items) {
-            if (stack.getItem() instanceof HerbBoxItem) {
-                count += HerbBoxItem.getHerbAmount(stack, herbKey);
-            }
-        }
-        return count;
-    }
-    
-    /**
-     * Consume herbs: first from HerbBox items, then from player inventory
-     */
-    private void consumeHerbs(Player player, Map<Item, Integer> herbCost) {
-        for (Map.Entry<Item, Integer> entry : herbCost.entrySet()) {
-            int remaining = entry.getValue();
-            
-            // First try to consume from HerbBox items
-            remaining = consumeFromHerbBoxes(player, entry.getKey(), remaining);
-            
-            // If still need more, consume from player inventory (loose herbs)
-            if (remaining > 0) {
-                for (ItemStack stack : player.getInventory().items) {
-                    if (stack.is(entry.getKey())) {
-                        int toRemove = Math.min(remaining, stack.getCount());
-                        stack.shrink(toRemove);
-                        remaining -= toRemove;
-                        if (remaining <= 0) break;
-                    }
-                }
-            }
-        }
-    }
-    
-    /**
-     * Consume herbs from HerbBox items in player inventory
-     * @return remaining amount that couldn't be consumed
-     */
-    private int consumeFromHerbBoxes(Player player, Item item, int amount) {
-        String herbKey = getHerbKeyForItem(item);
-        if (herbKey == null) return amount;
-        
-        int remaining = amount;
-        for (ItemStack stack : player.getInventory().items) {
-            if (stack.getItem() instanceof HerbBoxItem && remaining > 0) {
-                int available = HerbBoxItem.getHerbAmount(stack, herbKey);
-                if (available > 0) {
-                    int toRemove = Math.min(remaining, available);
-                    HerbBoxItem.removeHerb(stack, herbKey, toRemove);
-                    remaining -= toRemove;
-                }
-            }
-        }
-        return remaining;
-    }
-    
-    /**
-     * Get effect holder from registry ID string.
-     * Uses dynamic registry lookup instead of hardcoded switch.
-     */
-    private Holder<MobEffect> getEffectForType(String type) {
-        return PotionHelper.getEffectForType(type);
-    }
-    
     /**
      * Check if an effect is instantaneous (like heal/harm) using vanilla API.
      */
@@ -574,17 +447,17 @@ public class FlowweaveRingItem extends Item {
     
     @Override
     public void appendHoverText(ItemStack stack, TooltipContext context, List<Component> tooltip, TooltipFlag flag) {
-        if (hasBoundPotion(stack)) {
-            List<String> types = getBoundPotionTypes(stack);
-            int duration = getBoundDuration(stack);
-            int level = getBoundLevel(stack);
+        FlowweaveBinding binding = getBinding(stack);
+        if (binding != null) {
+            BoundPotion potion = binding.potion();
+            int duration = potion.duration();
+            int level = potion.level();
             
             // Display bound effects
             tooltip.add(Component.literal("Bound:")
                     .withStyle(ChatFormatting.LIGHT_PURPLE));
-            for (String type : types) {
-                String typeName = getEffectDisplayName(type);
-                tooltip.add(Component.literal("  " + typeName)
+            for (Holder<MobEffect> effect : potion.effects()) {
+                tooltip.add(Component.literal("  " + effect.value().getDisplayName().getString())
                         .withStyle(ChatFormatting.LIGHT_PURPLE));
             }
             
@@ -594,14 +467,7 @@ public class FlowweaveRingItem extends Item {
             }
             
             // Check if any effect is instant (don't show duration for instant effects)
-            boolean isInstant = false;
-            for (String type : types) {
-                Holder<MobEffect> effect = getEffectForType(type);
-                if (isInstantEffect(effect)) {
-                    isInstant = true;
-                    break;
-                }
-            }
+            boolean isInstant = potion.hasInstantEffect();
             
             if (!isInstant) {
                 // Duration is stored in seconds, display as "mm:ss"
@@ -624,8 +490,7 @@ public class FlowweaveRingItem extends Item {
                     .withStyle(ChatFormatting.AQUA));
             
             // Show herb cost (adjusted for current mode)
-            Map<Item, Integer> baseHerbCost = getHerbCost(stack);
-            Map<Item, Integer> adjustedCost = calculateAdjustedHerbCost(baseHerbCost, mode);
+            Map<Item, Integer> adjustedCost = calculateAdjustedHerbCost(binding.herbCost(), mode);
             if (!adjustedCost.isEmpty()) {
                 String costLabel = mode.getHerbMultiplier() > 1.0f 
                     ? String.format("Herb Cost (x%.1f):", mode.getHerbMultiplier())
@@ -645,21 +510,6 @@ public class FlowweaveRingItem extends Item {
         }
     }
     
-    /**
-     * Get effect display name from registry
-     */
-    private String getEffectDisplayName(String type) {
-        ResourceLocation id = ResourceLocation.tryParse(type);
-        if (id != null) {
-            MobEffect effect = BuiltInRegistries.MOB_EFFECT.get(id);
-            if (effect != null) {
-                return effect.getDisplayName().getString();
-            }
-        }
-        // Fallback: extract name from registry ID
-        return type.contains(":") ? type.substring(type.indexOf(":") + 1) : type;
-    }
-    
     /**
      * Static version of calculateAdjustedHerbCost for use in tooltip
      */
@@ -0,0 +1,110 @@
+package com.cahcap.common.item.flowweavering;
+
+import com.cahcap.common.item.HerbBoxItem;
+import com.cahcap.common.item.component.HerbBoxContents;
+import com.cahcap.common.util.HerbRegistry;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Herbs a player can spend on one Flowweave Ring cast, gathered in a single pass over the main inventory.
+ *
+ * Records every Herb Box and every loose herb stack per herb index, so the affordability check and the
+ * consumption run without rescanning. Consumption draws from Herb Boxes first (in slot order), then from
+ * loose stacks, and writes each box once. Only valid until the inventory is next modified.
+ */
+final class HerbLedger {
+
+    private final int[] totals = new int[HerbRegistry.getHerbCount()];
+    private final List<ItemStack> boxes = new ArrayList<>();
+    private final List<List<ItemStack>> looseByHerb = new ArrayList<>(totals.length);
+
+    private HerbLedger() {
+        for (int i = 0; i < totals.length; i++) {
+            looseByHerb.add(new ArrayList<>());
+        }
+    }
+
+    static HerbLedger of(Player player) {
+        HerbLedger ledger = new HerbLedger();
+        for (ItemStack stack : player.getInventory().items) {
+            if (stack.isEmpty()) continue;
+            if (stack.getItem() instanceof HerbBoxItem) {
+                HerbBoxContents contents = HerbBoxItem.getContents(stack);
+                if (contents.isEmpty()) continue;
+                ledger.boxes.add(stack);
+                for (int i = 0; i < ledger.totals.length; i++) {
+                    ledger.totals[i] += contents.get(i);
+                }
+                continue;
+            }
+            int index = HerbRegistry.getHerbIndex(stack.getItem());
+            if (index >= 0) {
+                ledger.looseByHerb.get(index).add(stack);
+                ledger.totals[index] += stack.getCount();
+            }
+        }
+        return ledger;
+    }
+
+    /**
+     * Whether the recorded herbs cover the cost. Costs in non-herb items can never be paid.
+     */
+    boolean canAfford(Map<Item, Integer> cost) {
+        for (Map.Entry<Item, Integer> entry : cost.entrySet()) {
+            int index = HerbRegistry.getHerbIndex(entry.getKey());
+            if (entry.getValue() > 0 && (index < 0 || totals[index] < entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove the cost from the recorded boxes and stacks. Call {@link #canAfford} first.
+     */
+    void consume(Map<Item, Integer> cost) {
+        int[] remaining = new int[totals.length];
+        for (Map.Entry<Item, Integer> entry : cost.entrySet()) {
+            int index = HerbRegistry.getHerbIndex(entry.getKey());
+            if (index >= 0) {
+                remaining[index] += entry.getValue();
+            }
+        }
+
+        // Herb Boxes first, one component write per box
+        for (ItemStack box : boxes) {
+            HerbBoxContents contents = HerbBoxItem.getContents(box);
+            int[] counts = null;
+            for (int i = 0; i < remaining.length; i++) {
+                int toRemove = Math.min(remaining[i], contents.get(i));
+                if (toRemove <= 0) continue;
+                if (counts == null) {
+                    counts = contents.toArray(remaining.length);
+                }
+                counts[i] -= toRemove;
+                remaining[i] -= toRemove;
+                totals[i] -= toRemove;
+            }
+            if (counts != null) {
+                HerbBoxItem.setContents(box, counts);
+            }
+        }
+
+        // Then loose herbs
+        for (int i = 0; i < remaining.length; i++) {
+            for (ItemStack stack : looseByHerb.get(i)) {
+                if (remaining[i] <= 0) break;
+                int toRemove = Math.min(remaining[i], stack.getCount());
+                stack.shrink(toRemove);
+                remaining[i] -= toRemove;
+                totals[i] -= toRemove;
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.cahcap.common.item.flowweavering;
 import com.cahcap.common.block.WorkbenchBlock;
 import com.cahcap.common.blockentity.WorkbenchBlockEntity;
 import com.cahcap.common.recipe.WorkbenchRecipe;
+import com.cahcap.common.recipe.WorkbenchRecipeIndex;
 import com.cahcap.common.registry.ModRegistries;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.InteractionResult;
@@ -51,8 +52,8 @@ public class WorkbenchCraftInteraction implements RingBlockInteraction {
         WorkbenchRecipe.WorkbenchInput input = new WorkbenchRecipe.WorkbenchInput(workbench);
 
         // Find matching recipe
-        Optional<RecipeHolder<WorkbenchRecipe>> recipeHolder = level.getRecipeManager()
-                .getRecipeFor(ModRegistries.WORKBENCH_RECIPE_TYPE.get(), input, level);
+        Optional<RecipeHolder<WorkbenchRecipe>> recipeHolder = WorkbenchRecipeIndex.get(level.getRecipeManager())
+                .findMatch(input, level);
 
         if (recipeHolder.isEmpty()) {
             return false;
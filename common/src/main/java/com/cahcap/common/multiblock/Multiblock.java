@@ -64,8 +64,34 @@ public class Multiblock {
     private final float soundVolume;
     private final float soundPitch;
 
+    // Precompiled pattern per facing/mirror combination, in tryAssemble search order
+    private final Orientation[] orientations;
+    // Symbols of the trigger entries, aligned with Orientation.triggerOffsets
+    private final char[] triggerEntrySymbols;
+    private boolean airOrderingApplied = false;
+
     private record PatternEntry(BlockPos offset, char symbol, boolean isMaster, int positionIndex) {}
 
+    /**
+     * One facing/mirror variant of the pattern: packed master-relative offsets with their predicates,
+     * most selective entries first, plus the packed offset of every trigger entry.
+     */
+    private static final class Orientation {
+        final Direction facing;
+        final boolean mirrored;
+        final long[] offsets;
+        final Predicate<BlockState>[] checks;
+        final long[] triggerOffsets;
+
+        Orientation(Direction facing, boolean mirrored, long[] offsets, Predicate<BlockState>[] checks, long[] triggerOffsets) {
+            this.facing = facing;
+            this.mirrored = mirrored;
+            this.offsets = offsets;
+            this.checks = checks;
+            this.triggerOffsets = triggerOffsets;
+        }
+    }
+
     private record BlockTransform(BlockPos offsetFromMaster, boolean isMaster, int posInMultiblock, int positionIndex) {
         BlockPos worldPos(BlockPos masterPos) {
             return masterPos.offset(offsetFromMaster.getX(), offsetFromMaster.getY(), offsetFromMaster.getZ());
@@ -75,7 +101,8 @@ public class Multiblock {
     private Multiblock(List<PatternEntry> entries, Set<Character> triggerSymbols,
                        Map<Character, Predicate<BlockState>> predicates,
                        Supplier<Block> resultBlock, boolean supportsMirroring,
-                       SoundEvent sound, float soundVolume, float soundPitch) {
+                       SoundEvent sound, float soundVolume, float soundPitch,
+                       Orientation[] orientations, char[] triggerEntrySymbols) {
         this.entries = entries;
         this.triggerSymbols = triggerSymbols;
         this.predicates = predicates;
@@ -84,6 +111,8 @@ public class Multiblock {
         this.sound = sound;
         this.soundVolume = soundVolume;
         this.soundPitch = soundPitch;
+        this.orientations = orientations;
+        this.triggerEntrySymbols = triggerEntrySymbols;
     }
 
     // ---- Public API ----
@@ -121,51 +150,44 @@ public class Multiblock {
         Direction playerFacing = (side != null && side.getAxis() != Direction.Axis.Y)
                 ? side : player.getDirection().getOpposite();
 
-        // Collect trigger entries
-        List<PatternEntry> triggers = new ArrayList<>();
-        for (PatternEntry e : entries) {
-            if (triggerSymbols.contains(e.symbol())) {
-                triggers.add(e);
-            }
-        }
+        applyAirOrdering();
 
         // Try all trigger positions × all rotations × mirror states
         record Match(BlockPos masterPos, Direction facing, boolean mirrored) {}
         Match preferredMatch = null;
         Match anyMatch = null;
-        Set<Long> tried = new HashSet<>();
-        boolean[] mirrorOptions = supportsMirroring ? new boolean[]{false, true} : new boolean[]{false};
-
-        for (PatternEntry trigger : triggers) {
-            for (boolean mirrored : mirrorOptions) {
-                for (Direction facing : Direction.Plane.HORIZONTAL) {
-                    BlockPos blueprintOffset = mirrored ? mirrorOffset(trigger.offset()) : trigger.offset();
-                    BlockPos rotatedOffset = rotateOffset(blueprintOffset, facing);
-                    BlockPos masterPos = clickedPos.subtract(rotatedOffset);
-
-                    long key = masterPos.asLong() * 8 + facing.get2DDataValue() * 2 + (mirrored ? 1 : 0);
-                    if (!tried.add(key)) continue;
-
-                    if (validateStructure(level, masterPos, facing, mirrored)) {
-                        Match match = new Match(masterPos, facing, mirrored);
-
-                        // Determine preferred facing from trigger position relative to master
-                        int dx = clickedPos.getX() - masterPos.getX();
-                        int dz = clickedPos.getZ() - masterPos.getZ();
-                        Direction preferred = (dx != 0 || dz != 0)
-                                ? Direction.getNearest(dx, 0, dz)
-                                : playerFacing;
-
-                        if (facing == preferred && !mirrored && preferredMatch == null) {
-                            preferredMatch = match;
-                        }
-                        if (anyMatch == null) {
-                            anyMatch = match;
-                        }
-                        if (preferredMatch != null) break;
+        BlockState clickedState = level.getBlockState(clickedPos);
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        for (int t = 0; t < triggerEntrySymbols.length; t++) {
+            // The clicked block must itself satisfy this trigger entry
+            if (!predicates.get(triggerEntrySymbols[t]).test(clickedState)) continue;
+
+            for (Orientation orientation : orientations) {
+                long triggerOffset = orientation.triggerOffsets[t];
+                int masterX = clickedPos.getX() - BlockPos.getX(triggerOffset);
+                int masterY = clickedPos.getY() - BlockPos.getY(triggerOffset);
+                int masterZ = clickedPos.getZ() - BlockPos.getZ(triggerOffset);
+
+                if (validateStructure(level, masterX, masterY, masterZ, orientation, cursor)) {
+                    BlockPos masterPos = new BlockPos(masterX, masterY, masterZ);
+                    Match match = new Match(masterPos, orientation.facing, orientation.mirrored);
+
+                    // Determine preferred facing from trigger position relative to master
+                    int dx = clickedPos.getX() - masterX;
+                    int dz = clickedPos.getZ() - masterZ;
+                    Direction preferred = (dx != 0 || dz != 0)
+                            ? Direction.getNearest(dx, 0, dz)
+                            : playerFacing;
+
+                    if (orientation.facing == preferred && !orientation.mirrored && preferredMatch == null) {
+                        preferredMatch = match;
                     }
+                    if (anyMatch == null) {
+                        anyMatch = match;
+                    }
+                    if (preferredMatch != null) break;
                 }
-                if (preferredMatch != null) break;
             }
             if (preferredMatch != null) break;
         }
@@ -180,19 +202,49 @@ public class Multiblock {
 
     // ---- Internal logic ----
 
-    private boolean validateStructure(Level level, BlockPos masterPos, Direction facing, boolean mirrored) {
-        for (PatternEntry entry : entries) {
-            BlockPos localOffset = mirrored ? mirrorOffset(entry.offset()) : entry.offset();
-            BlockPos rotated = rotateOffset(localOffset, facing);
-            BlockPos worldPos = masterPos.offset(rotated);
-            Predicate<BlockState> predicate = predicates.get(entry.symbol());
-            if (!predicate.test(level.getBlockState(worldPos))) {
+    private boolean validateStructure(Level level, int masterX, int masterY, int masterZ,
+                                      Orientation orientation, BlockPos.MutableBlockPos cursor) {
+        long[] offsets = orientation.offsets;
+        Predicate<BlockState>[] checks = orientation.checks;
+        for (int i = 0; i < offsets.length; i++) {
+            long offset = offsets[i];
+            cursor.set(masterX + BlockPos.getX(offset), masterY + BlockPos.getY(offset), masterZ + BlockPos.getZ(offset));
+            if (!checks[i].test(level.getBlockState(cursor))) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Move entries that accept air (open interior, wildcards) behind the solid ones, once.
+     * Done on first use rather than in build(): predicates may reference registry objects
+     * that are not available yet when blueprints are built.
+     */
+    private void applyAirOrdering() {
+        if (airOrderingApplied) return;
+        for (Orientation orientation : orientations) {
+            int n = orientation.offsets.length;
+            long[] offsets = new long[n];
+            @SuppressWarnings("unchecked")
+            Predicate<BlockState>[] checks = (Predicate<BlockState>[]) new Predicate[n];
+            int k = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                for (int i = 0; i < n; i++) {
+                    boolean acceptsAir = orientation.checks[i].test(AIR_STATE);
+                    if (acceptsAir == (pass == 1)) {
+                        offsets[k] = orientation.offsets[i];
+                        checks[k] = orientation.checks[i];
+                        k++;
+                    }
+                }
+            }
+            System.arraycopy(offsets, 0, orientation.offsets, 0, n);
+            System.arraycopy(checks, 0, orientation.checks, 0, n);
+        }
+        airOrderingApplied = true;
+    }
+
     private static final BlockState AIR_STATE = net.minecraft.world.level.block.Blocks.AIR.defaultBlockState();
 
     private void doAssemble(Level level, BlockPos masterPos, Direction facing, boolean mirrored) {
@@ -252,6 +304,10 @@ public class Multiblock {
         return new BlockPos(-offset.getX(), offset.getY(), offset.getZ());
     }
 
+    private static BlockPos transformOffset(BlockPos offset, Direction facing, boolean mirrored) {
+        return rotateOffset(mirrored ? mirrorOffset(offset) : offset, facing);
+    }
+
     private static BlockPos rotateOffset(BlockPos offset, Direction facing) {
         int x = offset.getX(), y = offset.getY(), z = offset.getZ();
         return switch (facing) {
@@ -400,8 +456,49 @@ public class Multiblock {
                 }
             }
 
+            // Precompile one table per facing/mirror variant, in tryAssemble search order
+            List<PatternEntry> triggerEntries = new ArrayList<>();
+            for (PatternEntry e : entries) {
+                if (triggerSymbols.contains(e.symbol())) {
+                    triggerEntries.add(e);
+                }
+            }
+            char[] triggerEntrySymbols = new char[triggerEntries.size()];
+            for (int i = 0; i < triggerEntrySymbols.length; i++) {
+                triggerEntrySymbols[i] = triggerEntries.get(i).symbol();
+            }
+
+            // Most selective first: symbols used by fewer positions (e.g. master, special slabs) before bulk blocks
+            Map<Character, Integer> symbolCounts = new HashMap<>();
+            for (PatternEntry e : entries) {
+                symbolCounts.merge(e.symbol(), 1, Integer::sum);
+            }
+            List<PatternEntry> checkOrder = new ArrayList<>(entries);
+            checkOrder.sort(Comparator.comparingInt((PatternEntry e) -> symbolCounts.get(e.symbol())));
+
+            List<Orientation> orientations = new ArrayList<>();
+            boolean[] mirrorOptions = supportsMirroring ? new boolean[]{false, true} : new boolean[]{false};
+            for (boolean mirrored : mirrorOptions) {
+                for (Direction facing : Direction.Plane.HORIZONTAL) {
+                    long[] offsets = new long[checkOrder.size()];
+                    @SuppressWarnings("unchecked")
+                    Predicate<BlockState>[] checks = (Predicate<BlockState>[]) new Predicate[checkOrder.size()];
+                    for (int i = 0; i < offsets.length; i++) {
+                        PatternEntry e = checkOrder.get(i);
+                        offsets[i] = transformOffset(e.offset(), facing, mirrored).asLong();
+                        checks[i] = predicates.get(e.symbol());
+                    }
+                    long[] triggerOffsets = new long[triggerEntries.size()];
+                    for (int i = 0; i < triggerOffsets.length; i++) {
+                        triggerOffsets[i] = transformOffset(triggerEntries.get(i).offset(), facing, mirrored).asLong();
+                    }
+                    orientations.add(new Orientation(facing, mirrored, offsets, checks, triggerOffsets));
+                }
+            }
+
             return new Multiblock(entries, triggerSymbols, predicates,
-                    resultBlock, supportsMirroring, sound, soundVolume, soundPitch);
+                    resultBlock, supportsMirroring, sound, soundVolume, soundPitch,
+                    orientations.toArray(new Orientation[0]), triggerEntrySymbols);
         }
     }
 }
@@ -0,0 +1,83 @@
+package com.cahcap.common.network;
+
+import com.cahcap.common.config.CommonConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per effect counters of visual-effect packets sent to clients (one packet per receiving player).
+ * Counts are bucketed per second of server ticks; the mod loader module calls {@link #endSecond()} every 20 ticks.
+ * Server thread only.
+ */
+public final class EffectPacketStats {
+
+    private static final Map<String, Counter> COUNTERS = new TreeMap<>();
+
+    private EffectPacketStats() {}
+
+    /**
+     * Whether each second's packet counts are logged (the counters themselves are always kept).
+     */
+    public static boolean isLoggingEnabled() {
+        return CommonConfig.LOG_EFFECT_PACKETS.get();
+    }
+
+    public static void record(String effect, int packets) {
+        if (packets <= 0) return;
+        Counter counter = COUNTERS.computeIfAbsent(effect, k -> new Counter());
+        counter.current += packets;
+        counter.total += packets;
+    }
+
+    /**
+     * Packets of the given effect sent during the last complete second.
+     */
+    public static int packetsLastSecond(String effect) {
+        Counter counter = COUNTERS.get(effect);
+        return counter != null ? counter.lastSecond : 0;
+    }
+
+    /**
+     * Close the current one-second bucket.
+     * @return "effect=count" entries for the effects that sent anything during it
+     */
+    public static List<String> endSecond() {
+        List<String> sent = new ArrayList<>();
+        for (Map.Entry<String, Counter> entry : COUNTERS.entrySet()) {
+            Counter counter = entry.getValue();
+            counter.lastSecond = counter.current;
+            counter.peak = Math.max(counter.peak, counter.current);
+            counter.current = 0;
+            if (counter.lastSecond > 0) {
+                sent.add(entry.getKey() + "=" + counter.lastSecond);
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * One line per effect, for logging.
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Counter> entry : COUNTERS.entrySet()) {
+            Counter c = entry.getValue();
+            lines.add(String.format("%s: %d packets, peak %d/s", entry.getKey(), c.total, Math.max(c.peak, c.current)));
+        }
+        return lines;
+    }
+
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    private static final class Counter {
+        private long total;
+        private int current;
+        private int lastSecond;
+        private int peak;
+    }
+}
@@ -0,0 +1,38 @@
+package com.cahcap.common.network;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Platform-agnostic access to the mod's custom payloads.
+ * Mod loader module sets the INSTANCE during initialization.
+ */
+public final class NetworkHelper {
+
+    /** Platform implementation, set by mod loader module on init. */
+    public static Provider INSTANCE = null;
+
+    public interface Provider {
+        /**
+         * Send progress fields of the block entity at pos to all players tracking its chunk.
+         * @return the payload size in bytes
+         */
+        int sendProgress(ServerLevel level, BlockPos pos, int[] values);
+
+        /**
+         * Send a Flowweave projectile explosion to all players tracking the chunk at pos;
+         * the client spawns the particle burst itself.
+         * @return the number of players the payload was sent to
+         */
+        int sendFlowweaveBurst(ServerLevel level, Vec3 pos, float radius, int color);
+
+        /**
+         * Send an item splash of the cauldron whose master is at masterPos to all players tracking its chunk.
+         * @return the number of players the payload was sent to
+         */
+        int sendCauldronSplash(ServerLevel level, BlockPos masterPos);
+    }
+
+    private NetworkHelper() {}
+}
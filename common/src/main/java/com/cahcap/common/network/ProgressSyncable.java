@@ -0,0 +1,19 @@
+package com.cahcap.common.network;
+
+/**
+ * A block entity whose periodic updates only move a progress bar or timer.
+ * Such updates are sent as a small list of ints instead of the full update tag;
+ * structural changes still go through the regular full sync.
+ */
+public interface ProgressSyncable {
+
+    /**
+     * The numeric fields to send, always in the same order.
+     */
+    int[] writeProgress();
+
+    /**
+     * Apply fields written by {@link #writeProgress()} on the client.
+     */
+    void readProgress(int[] values);
+}
@@ -0,0 +1,65 @@
+package com.cahcap.common.network;
+
+import com.cahcap.common.config.CommonConfig;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per block entity type counters of client sync traffic, split into full update tags and progress payloads.
+ * Only collected while the countSyncBytes debug option is on, since sizing full updates costs an extra save.
+ * Server thread only.
+ */
+public final class SyncStats {
+
+    private static final Map<String, long[]> COUNTERS = new TreeMap<>();
+
+    // Indices into each counter array
+    private static final int FULL_COUNT = 0;
+    private static final int FULL_BYTES = 1;
+    private static final int PROGRESS_COUNT = 2;
+    private static final int PROGRESS_BYTES = 3;
+
+    private SyncStats() {}
+
+    public static boolean isEnabled() {
+        return CommonConfig.COUNT_SYNC_BYTES.get();
+    }
+
+    public static void recordFull(BlockEntityType<?> type, int bytes) {
+        long[] counters = countersFor(type);
+        counters[FULL_COUNT]++;
+        counters[FULL_BYTES] += bytes;
+    }
+
+    public static void recordProgress(BlockEntityType<?> type, int bytes) {
+        long[] counters = countersFor(type);
+        counters[PROGRESS_COUNT]++;
+        counters[PROGRESS_BYTES] += bytes;
+    }
+
+    /**
+     * One line per block entity type, for logging.
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : COUNTERS.entrySet()) {
+            long[] c = entry.getValue();
+            lines.add(String.format("%s: %d full syncs (%d bytes), %d progress syncs (%d bytes)",
+                    entry.getKey(), c[FULL_COUNT], c[FULL_BYTES], c[PROGRESS_COUNT], c[PROGRESS_BYTES]));
+        }
+        return lines;
+    }
+
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    private static long[] countersFor(BlockEntityType<?> type) {
+        return COUNTERS.computeIfAbsent(String.valueOf(BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(type)), k -> new long[4]);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cahcap.common.recipe;
+
+import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.blockentity.cauldron.EffectSetKey;
+import com.cahcap.common.registry.ModRegistries;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lookup index from potion effect sets to Cauldron brewing recipes, rebuilt whenever recipes are reloaded.
+ *
+ * A recipe matches an effect set when both contain exactly the same effects (order and duplicates ignored).
+ * When several recipes share an effect set, the first one in RecipeManager order wins.
+ *
+ * Also counts lookups that find no recipe, where callers fall back to hard-coded defaults.
+ */
+public final class CauldronBrewingRecipeIndex {
+
+    private static final RecipeIndexCache<CauldronBrewingRecipeIndex> CACHE =
+            new RecipeIndexCache<>(CauldronBrewingRecipeIndex::build);
+
+    private static final AtomicLong LOOKUPS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private final Map<EffectSetKey, CauldronBrewingRecipe> byEffectSet = new HashMap<>();
+    private final Map<String, CauldronBrewingRecipe> byContainedEffectId = new HashMap<>();
+
+    private CauldronBrewingRecipeIndex() {}
+
+    public static CauldronBrewingRecipeIndex get(RecipeManager recipeManager) {
+        return CACHE.get(recipeManager);
+    }
+
+    /**
+     * Find the brewing recipe producing exactly the given effect set.
+     * @return the recipe, or null if none (caller uses default values)
+     */
+    public CauldronBrewingRecipe findByEffects(EffectSetKey key) {
+        if (key.isEmpty()) return null;
+        LOOKUPS.incrementAndGet();
+        CauldronBrewingRecipe recipe = byEffectSet.get(key);
+        if (recipe == null) {
+            long misses = MISSES.incrementAndGet();
+            HerbalCurativeCommon.LOGGER.debug("No brewing recipe for {}, using default values ({} misses so far)", key, misses);
+        }
+        return recipe;
+    }
+
+    /**
+     * Find the first brewing recipe whose effects include the given effect id.
+     */
+    public CauldronBrewingRecipe findContainingEffect(String effectId) {
+        return byContainedEffectId.get(effectId);
+    }
+
+    /** Total number of effect-set lookups since startup. */
+    public static long getLookupCount() {
+        return LOOKUPS.get();
+    }
+
+    /** Number of effect-set lookups that found no recipe and fell back to defaults. */
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    private static CauldronBrewingRecipeIndex build(RecipeManager recipeManager) {
+        CauldronBrewingRecipeIndex index = new CauldronBrewingRecipeIndex();
+        for (RecipeHolder<CauldronBrewingRecipe> holder :
+                recipeManager.getAllRecipesFor(ModRegistries.CAULDRON_BREWING_RECIPE_TYPE.get())) {
+            CauldronBrewingRecipe recipe = holder.value();
+            for (String effectId : recipe.getEffectIds()) {
+                index.byContainedEffectId.putIfAbsent(effectId, recipe);
+            }
+
+            // Recipes naming an unknown effect can never equal a cauldron's effect set
+            List<MobEffect> effects = recipe.getEffects();
+            if (effects.isEmpty() || effects.size() != recipe.getEffectIds().size()) continue;
+            index.byEffectSet.putIfAbsent(EffectSetKey.of(effects), recipe);
+        }
+        return index;
+    }
+}
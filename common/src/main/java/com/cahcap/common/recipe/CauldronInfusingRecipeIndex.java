@@ -0,0 +1,209 @@
+package com.cahcap.common.recipe;
+
+import com.cahcap.common.blockentity.cauldron.CauldronFluid;
+import com.cahcap.common.registry.ModRegistries;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.material.Fluid;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Lookup index for Cauldron infusing recipes, rebuilt whenever recipes are reloaded.
+ *
+ * Recipes are partitioned by fluid requirement (specific fluid / specific potion effect /
+ * any potion / any fluid). Within a partition:
+ * - Recipes whose ingredients each resolve to a single item are keyed by that exact item set.
+ *   Under relaxed matching such a recipe can only match materials with exactly that set of items.
+ * - Recipes with tag (multi-item) ingredients are listed under every item they accept.
+ *   Every material has to match some ingredient, so any material item finds them.
+ * - Recipes whose ingredients expose no items are kept in a fallback list and always tested.
+ *
+ * Candidates are still verified with {@link CauldronInfusingRecipe#matchesFluid} and
+ * {@link CauldronInfusingRecipe#matchesMaterialsContains}, and the first match in
+ * RecipeManager order wins, exactly like the previous linear scan.
+ */
+public final class CauldronInfusingRecipeIndex {
+
+    private static final RecipeIndexCache<CauldronInfusingRecipeIndex> CACHE =
+            new RecipeIndexCache<>(CauldronInfusingRecipeIndex::build);
+
+    private final Partition anyFluid = new Partition();
+    private final Partition anyPotion = new Partition();
+    private final Map<Fluid, Partition> byFluid = new IdentityHashMap<>();
+    private final Map<MobEffect, Partition> byEffect = new IdentityHashMap<>();
+
+    private CauldronInfusingRecipeIndex() {}
+
+    public static CauldronInfusingRecipeIndex get(RecipeManager recipeManager) {
+        return CACHE.get(recipeManager);
+    }
+
+    /**
+     * Find the first infusing recipe (in RecipeManager order) matching the fluid and materials.
+     *
+     * @param extraCondition additional per-recipe check (e.g. Flowweave Ring binding conditions)
+     */
+    public CauldronInfusingRecipe findMatch(CauldronFluid fluid, List<ItemStack> materials,
+                                            Predicate<CauldronInfusingRecipe> extraCondition) {
+        if (fluid.isEmpty()) return null;
+
+        Set<Item> materialItems = new HashSet<>();
+        Item firstItem = null;
+        for (ItemStack stack : materials) {
+            if (stack.isEmpty()) continue;
+            materialItems.add(stack.getItem());
+            if (firstItem == null) firstItem = stack.getItem();
+        }
+
+        Search search = new Search(fluid, materials, materialItems, firstItem, extraCondition);
+        anyFluid.search(search);
+        if (fluid.isFluid()) {
+            Partition partition = byFluid.get(fluid.getFluid());
+            if (partition != null) partition.search(search);
+        } else if (fluid.isPotion()) {
+            anyPotion.search(search);
+            for (MobEffect effect : fluid.getEffects()) {
+                Partition partition = byEffect.get(effect);
+                if (partition != null) partition.search(search);
+            }
+        }
+        return search.best != null ? search.best.recipe : null;
+    }
+
+    private static CauldronInfusingRecipeIndex build(RecipeManager recipeManager) {
+        CauldronInfusingRecipeIndex index = new CauldronInfusingRecipeIndex();
+        int ordinal = 0;
+        for (RecipeHolder<CauldronInfusingRecipe> holder :
+                recipeManager.getAllRecipesFor(ModRegistries.CAULDRON_INFUSING_RECIPE_TYPE.get())) {
+            CauldronInfusingRecipe recipe = holder.value();
+            Partition partition = index.partitionFor(recipe);
+            if (partition != null) {
+                partition.add(new Entry(recipe, ordinal));
+            }
+            ordinal++;
+        }
+        return index;
+    }
+
+    /**
+     * Mirror of {@link CauldronInfusingRecipe#matchesFluid}: pick the only partition the recipe can match in.
+     * Returns null for recipes that can never match (unknown fluid id).
+     */
+    private Partition partitionFor(CauldronInfusingRecipe recipe) {
+        if (recipe.requiresFluid()) {
+            Fluid required = recipe.getRequiredFluid();
+            return required != null ? byFluid.computeIfAbsent(required, f -> new Partition()) : null;
+        }
+        if (recipe.requiresPotion() || recipe.getMinDuration() > 0 || recipe.getMinLevel() > 1) {
+            MobEffect required = recipe.getRequiredEffect();
+            return required != null ? byEffect.computeIfAbsent(required, e -> new Partition()) : anyPotion;
+        }
+        return anyFluid;
+    }
+
+    private record Entry(CauldronInfusingRecipe recipe, int ordinal) {}
+
+    private static final class Partition {
+        private final Map<Set<Item>, List<Entry>> byExactItems = new HashMap<>();
+        private final Map<Item, List<Entry>> byAcceptedItem = new IdentityHashMap<>();
+        private final List<Entry> unindexed = new ArrayList<>();
+        private final List<Entry> noInputs = new ArrayList<>();
+
+        void add(Entry entry) {
+            List<CauldronInfusingRecipe.IngredientWithCount> inputs = entry.recipe.getInputs();
+            if (inputs.isEmpty()) {
+                noInputs.add(entry);
+                return;
+            }
+
+            Set<Item> exactItems = new HashSet<>();
+            Set<Item> acceptedItems = new HashSet<>();
+            boolean singleItemIngredients = true;
+            for (CauldronInfusingRecipe.IngredientWithCount iwc : inputs) {
+                Set<Item> items = itemsOf(iwc.ingredient());
+                if (items.isEmpty()) {
+                    unindexed.add(entry);
+                    return;
+                }
+                if (items.size() != 1) singleItemIngredients = false;
+                exactItems.addAll(items);
+                acceptedItems.addAll(items);
+            }
+
+            if (singleItemIngredients) {
+                byExactItems.computeIfAbsent(Set.copyOf(exactItems), k -> new ArrayList<>()).add(entry);
+            } else {
+                for (Item item : acceptedItems) {
+                    byAcceptedItem.computeIfAbsent(item, k -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+
+        void search(Search search) {
+            if (search.firstItem == null) {
+                search.scan(noInputs);
+                return;
+            }
+            List<Entry> exact = byExactItems.get(search.materialItems);
+            if (exact != null) search.scan(exact);
+            List<Entry> accepting = byAcceptedItem.get(search.firstItem);
+            if (accepting != null) search.scan(accepting);
+            search.scan(unindexed);
+        }
+
+        private static Set<Item> itemsOf(Ingredient ingredient) {
+            Set<Item> items = new HashSet<>();
+            for (ItemStack stack : ingredient.getItems()) {
+                if (!stack.isEmpty()) items.add(stack.getItem());
+            }
+            return items;
+        }
+    }
+
+    /**
+     * State of one lookup. Each candidate list is in ordinal order, so scanning a list
+     * can stop at its first match or as soon as it passes the best ordinal found so far.
+     */
+    private static final class Search {
+        final CauldronFluid fluid;
+        final List<ItemStack> materials;
+        final Set<Item> materialItems;
+        final Item firstItem;
+        final Predicate<CauldronInfusingRecipe> extraCondition;
+        Entry best;
+
+        Search(CauldronFluid fluid, List<ItemStack> materials, Set<Item> materialItems, Item firstItem,
+               Predicate<CauldronInfusingRecipe> extraCondition) {
+            this.fluid = fluid;
+            this.materials = materials;
+            this.materialItems = materialItems;
+            this.firstItem = firstItem;
+            this.extraCondition = extraCondition;
+        }
+
+        void scan(List<Entry> candidates) {
+            for (Entry entry : candidates) {
+                if (best != null && entry.ordinal >= best.ordinal) return;
+                CauldronInfusingRecipe recipe = entry.recipe;
+                if (!recipe.matchesFluid(fluid)) continue;
+                if (!extraCondition.test(recipe)) continue;
+                if (recipe.matchesMaterialsContains(materials)) {
+                    best = entry;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -65,9 +65,36 @@ public class HerbalBlendingRecipe implements Recipe<HerbalBlendingRecipe.Blendin
     
     @Override
     public boolean matches(BlendingInput input, Level level) {
-        // Check basket inputs
+        // Shelf pattern first: it rejects most recipes without touching the baskets
+        return matchesShelves(input.shelves()) && matchesBaskets(input.baskets());
+    }
+    
+    /**
+     * Check the shelf pattern - position-sensitive matching.
+     */
+    public boolean matchesShelves(List<ShelfBlockEntity> shelves) {
+        if (shelves.size() != 9) {
+            return false;
+        }
+        
+        for (int i = 0; i < 9; i++) {
+            Ingredient required = shelfPattern.get(i);
+            ItemStack actual = shelves.get(i).hasItem() ? shelves.get(i).getItem() : ItemStack.EMPTY;
+            
+            if (!required.test(actual)) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Check that the baskets hold enough herbs for all basket inputs.
+     */
+    public boolean matchesBaskets(List<HerbBasketBlockEntity> baskets) {
         Map<Item, Integer> availableHerbs = new HashMap<>();
-        for (HerbBasketBlockEntity basket : input.baskets()) {
+        for (HerbBasketBlockEntity basket : baskets) {
             if (basket.isBound() && basket.getHerbCount() > 0) {
                 Item herb = basket.getBoundHerb();
                 availableHerbs.merge(herb, basket.getHerbCount(), Integer::sum);
@@ -99,21 +126,6 @@ public class HerbalBlendingRecipe implements Recipe<HerbalBlendingRecipe.Blendin
             }
         }
         
-        // Check shelf pattern - position-sensitive matching
-        List<ShelfBlockEntity> shelves = input.shelves();
-        if (shelves.size() != 9) {
-            return false;
-        }
-        
-        for (int i = 0; i < 9; i++) {
-            Ingredient required = shelfPattern.get(i);
-            ItemStack actual = shelves.get(i).hasItem() ? shelves.get(i).getItem() : ItemStack.EMPTY;
-            
-            if (!required.test(actual)) {
-                return false;
-            }
-        }
-        
         return true;
     }
     
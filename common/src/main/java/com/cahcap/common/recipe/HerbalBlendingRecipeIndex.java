@@ -0,0 +1,159 @@
+package com.cahcap.common.recipe;
+
+import com.cahcap.common.blockentity.ShelfBlockEntity;
+import com.cahcap.common.registry.ModRegistries;
+import net.minecraft.core.NonNullList;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lookup index from the nine Herbal Blending shelf items to candidate recipes, rebuilt whenever recipes are reloaded.
+ *
+ * Each recipe is keyed by the raw item ids its shelf pattern accepts (0 for slots whose ingredient is empty,
+ * which only accept an empty shelf). Tag ingredients expand to one key per accepted combination, up to
+ * {@link #MAX_SIGNATURES_PER_RECIPE}; larger patterns and ingredients exposing no items are always tested.
+ * Surviving candidates are verified with the shelf matcher, and only then are the baskets checked.
+ * When several recipes match, the first one in RecipeManager order wins.
+ */
+public final class HerbalBlendingRecipeIndex {
+
+    private static final int SHELF_COUNT = 9;
+    private static final int MAX_SIGNATURES_PER_RECIPE = 256;
+
+    private static final RecipeIndexCache<HerbalBlendingRecipeIndex> CACHE =
+            new RecipeIndexCache<>(HerbalBlendingRecipeIndex::build);
+
+    private final Map<ShelfSignature, List<Entry>> bySignature = new HashMap<>();
+    private final List<Entry> unindexed = new ArrayList<>();
+
+    private HerbalBlendingRecipeIndex() {}
+
+    public static HerbalBlendingRecipeIndex get(RecipeManager recipeManager) {
+        return CACHE.get(recipeManager);
+    }
+
+    /**
+     * Find the first recipe matching the given blending structure.
+     */
+    public Optional<RecipeHolder<HerbalBlendingRecipe>> findMatch(HerbalBlendingRecipe.BlendingInput input) {
+        List<ShelfBlockEntity> shelves = input.shelves();
+        if (shelves.size() != SHELF_COUNT) return Optional.empty();
+
+        int[] ids = new int[SHELF_COUNT];
+        for (int i = 0; i < SHELF_COUNT; i++) {
+            ShelfBlockEntity shelf = shelves.get(i);
+            ids[i] = shelf.hasItem() ? rawId(shelf.getItem()) : 0;
+        }
+        List<Entry> candidates = bySignature.getOrDefault(new ShelfSignature(ids), List.of());
+
+        // Merge both ordinal-sorted lists so RecipeManager order is preserved
+        int i = 0;
+        int j = 0;
+        while (i < candidates.size() || j < unindexed.size()) {
+            Entry entry;
+            if (j >= unindexed.size() || (i < candidates.size() && candidates.get(i).ordinal < unindexed.get(j).ordinal)) {
+                entry = candidates.get(i++);
+            } else {
+                entry = unindexed.get(j++);
+            }
+            HerbalBlendingRecipe recipe = entry.holder.value();
+            if (recipe.matchesShelves(shelves) && recipe.matchesBaskets(input.baskets())) {
+                return Optional.of(entry.holder);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static HerbalBlendingRecipeIndex build(RecipeManager recipeManager) {
+        HerbalBlendingRecipeIndex index = new HerbalBlendingRecipeIndex();
+        int ordinal = 0;
+        for (RecipeHolder<HerbalBlendingRecipe> holder :
+                recipeManager.getAllRecipesFor(ModRegistries.HERBAL_BLENDING_RECIPE_TYPE.get())) {
+            Entry entry = new Entry(holder, ordinal++);
+            int[][] slotIds = acceptedIds(holder.value().getShelfPattern());
+            if (slotIds == null) {
+                index.unindexed.add(entry);
+                continue;
+            }
+            int[] current = new int[SHELF_COUNT];
+            expand(slotIds, 0, current, index.bySignature, entry);
+        }
+        return index;
+    }
+
+    /**
+     * Raw item ids accepted by each shelf slot, or null if the pattern cannot be indexed.
+     */
+    private static int[][] acceptedIds(NonNullList<Ingredient> pattern) {
+        if (pattern.size() != SHELF_COUNT) return null;
+        int[][] slotIds = new int[SHELF_COUNT][];
+        long combinations = 1;
+        for (int i = 0; i < SHELF_COUNT; i++) {
+            Ingredient ingredient = pattern.get(i);
+            if (ingredient.isEmpty()) {
+                slotIds[i] = new int[] {0};
+                continue;
+            }
+            int[] ids = Arrays.stream(ingredient.getItems())
+                    .filter(stack -> !stack.isEmpty())
+                    .mapToInt(HerbalBlendingRecipeIndex::rawId)
+                    .distinct()
+                    .toArray();
+            if (ids.length == 0) return null;
+            combinations *= ids.length;
+            if (combinations > MAX_SIGNATURES_PER_RECIPE) return null;
+            slotIds[i] = ids;
+        }
+        return slotIds;
+    }
+
+    private static void expand(int[][] slotIds, int slot, int[] current, Map<ShelfSignature, List<Entry>> bySignature, Entry entry) {
+        if (slot == SHELF_COUNT) {
+            bySignature.computeIfAbsent(new ShelfSignature(current.clone()), k -> new ArrayList<>()).add(entry);
+            return;
+        }
+        for (int id : slotIds[slot]) {
+            current[slot] = id;
+            expand(slotIds, slot + 1, current, bySignature, entry);
+        }
+    }
+
+    private static int rawId(ItemStack stack) {
+        return BuiltInRegistries.ITEM.getId(stack.getItem());
+    }
+
+    private record Entry(RecipeHolder<HerbalBlendingRecipe> holder, int ordinal) {}
+
+    /**
+     * Raw item ids of the nine shelves, in shelf order.
+     */
+    private static final class ShelfSignature {
+        private final int[] ids;
+        private final int hash;
+
+        private ShelfSignature(int[] ids) {
+            this.ids = ids;
+            this.hash = Arrays.hashCode(ids);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof ShelfSignature other && hash == other.hash && Arrays.equals(ids, other.ids));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
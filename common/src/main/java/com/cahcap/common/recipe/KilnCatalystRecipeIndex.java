@@ -0,0 +1,147 @@
+package com.cahcap.common.recipe;
+
+import com.cahcap.common.registry.ModRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lookup index for Kiln catalyst recipes, rebuilt whenever recipes are reloaded.
+ *
+ * - Catalyst item -> recipe, so catalyst checks on the smelting path are a single probe
+ * - Recipe id -> recipe, so the kiln can persist its active catalyst by id
+ * - Per recipe, the set of affected input items, so the output multiplier check rejects in O(1)
+ */
+public final class KilnCatalystRecipeIndex {
+
+    private static final RecipeIndexCache<KilnCatalystRecipeIndex> CACHE =
+            new RecipeIndexCache<>(KilnCatalystRecipeIndex::build);
+
+    private final Map<Item, List<Catalyst>> byCatalystItem = new IdentityHashMap<>();
+    private final Map<ResourceLocation, Catalyst> byId = new HashMap<>();
+    // Catalysts whose ingredient exposes no items; always tested
+    private final List<Catalyst> unindexed = new ArrayList<>();
+    private final List<Catalyst> all = new ArrayList<>();
+
+    private KilnCatalystRecipeIndex() {}
+
+    public static KilnCatalystRecipeIndex get(RecipeManager recipeManager) {
+        return CACHE.get(recipeManager);
+    }
+
+    /**
+     * Find the catalyst matching the given item stack (first in RecipeManager order).
+     */
+    public Catalyst findFor(ItemStack stack) {
+        if (stack.isEmpty()) return null;
+        Catalyst best = null;
+        List<Catalyst> candidates = byCatalystItem.get(stack.getItem());
+        if (candidates != null) {
+            for (Catalyst catalyst : candidates) {
+                if (catalyst.recipe.getIngredient().test(stack)) {
+                    best = catalyst;
+                    break;
+                }
+            }
+        }
+        for (Catalyst catalyst : unindexed) {
+            if (best != null && catalyst.ordinal >= best.ordinal) break;
+            if (catalyst.recipe.getIngredient().test(stack)) {
+                best = catalyst;
+                break;
+            }
+        }
+        return best;
+    }
+
+    public Catalyst byId(ResourceLocation id) {
+        return id != null ? byId.get(id) : null;
+    }
+
+    /**
+     * Legacy lookup for kilns saved before the active catalyst id was persisted:
+     * the first catalyst whose multipliers match the stored ones.
+     */
+    public Catalyst findByMultipliers(int outputMultiplier, int speedMultiplier) {
+        for (Catalyst catalyst : all) {
+            if (catalyst.recipe.getOutputMultiplier() == outputMultiplier
+                    && catalyst.recipe.getSpeedMultiplier() == speedMultiplier) {
+                return catalyst;
+            }
+        }
+        return null;
+    }
+
+    private static KilnCatalystRecipeIndex build(RecipeManager recipeManager) {
+        KilnCatalystRecipeIndex index = new KilnCatalystRecipeIndex();
+        int ordinal = 0;
+        for (RecipeHolder<KilnCatalystRecipe> holder :
+                recipeManager.getAllRecipesFor(ModRegistries.KILN_CATALYST_RECIPE_TYPE.get())) {
+            Catalyst catalyst = new Catalyst(holder.id(), holder.value(), ordinal++);
+            index.all.add(catalyst);
+            index.byId.put(catalyst.id, catalyst);
+
+            Set<Item> catalystItems = itemsOf(holder.value().getIngredient());
+            if (catalystItems.isEmpty()) {
+                index.unindexed.add(catalyst);
+            }
+            for (Item item : catalystItems) {
+                index.byCatalystItem.computeIfAbsent(item, k -> new ArrayList<>()).add(catalyst);
+            }
+        }
+        return index;
+    }
+
+    private static Set<Item> itemsOf(Ingredient ingredient) {
+        return Arrays.stream(ingredient.getItems())
+                .filter(stack -> !stack.isEmpty())
+                .map(ItemStack::getItem)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * A catalyst recipe together with its id and precomputed affected-input items.
+     */
+    public static final class Catalyst {
+        private final ResourceLocation id;
+        private final KilnCatalystRecipe recipe;
+        private final int ordinal;
+        // null when every input is affected (no affected_inputs filter)
+        private final Set<Item> affectedItems;
+
+        private Catalyst(ResourceLocation id, KilnCatalystRecipe recipe, int ordinal) {
+            this.id = id;
+            this.recipe = recipe;
+            this.ordinal = ordinal;
+            this.affectedItems = recipe.getAffectedInputs().isEmpty() ? null : itemsOf(recipe.getAffectedInputs());
+        }
+
+        public ResourceLocation id() {
+            return id;
+        }
+
+        public KilnCatalystRecipe recipe() {
+            return recipe;
+        }
+
+        /**
+         * Same result as {@link KilnCatalystRecipe#isInputAffected}, rejecting unaffected items by set lookup.
+         */
+        public boolean isInputAffected(ItemStack input) {
+            if (affectedItems == null) return true;
+            return affectedItems.contains(input.getItem()) && recipe.getAffectedInputs().test(input);
+        }
+    }
+}
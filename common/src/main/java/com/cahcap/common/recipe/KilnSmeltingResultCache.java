@@ -0,0 +1,106 @@
+package com.cahcap.common.recipe;
+
+import com.cahcap.common.registry.ModRegistries;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.SingleRecipeInput;
+import net.minecraft.world.item.crafting.SmeltingRecipe;
+import net.minecraft.world.level.Level;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared memo of kiln smelting results, keyed by input item + data components.
+ *
+ * Resolution order matches the kiln: custom kiln recipes first, then vanilla smelting.
+ * Non-smeltable inputs are cached as well (empty result), so hopper filters probing
+ * arbitrary stacks stay cheap. The cache is bounded (least recently used entries are evicted)
+ * and is dropped together with the other recipe indexes on datapack reload.
+ *
+ * Returned stacks are shared and must not be modified; copy before use.
+ */
+public final class KilnSmeltingResultCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private static final RecipeIndexCache<KilnSmeltingResultCache> CACHE =
+            new RecipeIndexCache<>(recipeManager -> new KilnSmeltingResultCache());
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private final Map<Object, Optional<ItemStack>> results = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Optional<ItemStack>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private KilnSmeltingResultCache() {}
+
+    /**
+     * Get the smelting result for the given input.
+     * @return the (shared, read-only) result, or empty if the input cannot be smelted
+     */
+    public static Optional<ItemStack> getResult(Level level, ItemStack input) {
+        if (input.isEmpty()) return Optional.empty();
+        RecipeManager recipeManager = level.getRecipeManager();
+        return CACHE.get(recipeManager).lookup(level, recipeManager, input);
+    }
+
+    /** Number of lookups answered from the cache since startup. */
+    public static long getHitCount() {
+        return HITS.get();
+    }
+
+    /** Number of lookups that had to query the RecipeManager since startup. */
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    private synchronized Optional<ItemStack> lookup(Level level, RecipeManager recipeManager, ItemStack input) {
+        Object key = keyOf(input);
+        Optional<ItemStack> cached = results.get(key);
+        if (cached != null) {
+            HITS.incrementAndGet();
+            return cached;
+        }
+        MISSES.incrementAndGet();
+        Optional<ItemStack> result = resolve(level, recipeManager, input);
+        results.put(key, result);
+        return result;
+    }
+
+    private static Object keyOf(ItemStack input) {
+        // Plain items (the overwhelmingly common case) are keyed by the Item itself
+        if (input.isComponentsPatchEmpty()) {
+            return input.getItem();
+        }
+        return new ComponentKey(input.getItem(), input.getComponentsPatch());
+    }
+
+    private static Optional<ItemStack> resolve(Level level, RecipeManager recipeManager, ItemStack input) {
+        SingleRecipeInput recipeInput = new SingleRecipeInput(input.copyWithCount(1));
+
+        // First try custom kiln recipes
+        Optional<RecipeHolder<KilnSmeltingRecipe>> kilnRecipe = recipeManager.getRecipeFor(
+                ModRegistries.KILN_SMELTING_RECIPE_TYPE.get(), recipeInput, level);
+        if (kilnRecipe.isPresent()) {
+            return Optional.of(kilnRecipe.get().value().getResultItem(level.registryAccess()));
+        }
+
+        // Fall back to vanilla smelting recipes
+        Optional<RecipeHolder<SmeltingRecipe>> smeltingRecipe = recipeManager.getRecipeFor(
+                RecipeType.SMELTING, recipeInput, level);
+        return smeltingRecipe.map(r -> r.value().getResultItem(level.registryAccess()).copy());
+    }
+
+    private record ComponentKey(Item item, DataComponentPatch components) {}
+}
@@ -191,8 +191,8 @@ public class MultiblockHerbalBlending {
         );
         
         // Find matching recipe
-        Optional<RecipeHolder<HerbalBlendingRecipe>> recipeHolder = level.getRecipeManager()
-                .getRecipeFor(ModRegistries.HERBAL_BLENDING_RECIPE_TYPE.get(), input, level);
+        Optional<RecipeHolder<HerbalBlendingRecipe>> recipeHolder = HerbalBlendingRecipeIndex.get(level.getRecipeManager())
+                .findMatch(input);
         
         if (recipeHolder.isEmpty()) {
             return false;
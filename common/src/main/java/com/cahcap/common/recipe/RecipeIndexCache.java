@@ -0,0 +1,67 @@
+package com.cahcap.common.recipe;
+
+import net.minecraft.world.item.crafting.RecipeManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Lazily built, reload-aware lookup structure derived from the RecipeManager.
+ *
+ * One value is kept per RecipeManager instance (the integrated server and its client each have their own),
+ * built on first use and reused until {@link #invalidateAll()} is called by the platform module after a
+ * datapack/recipe reload. Stale managers (world switch, server restart) are dropped with the weak map.
+ *
+ * @param <T> the derived index type
+ */
+public final class RecipeIndexCache<T> {
+
+    private static final List<RecipeIndexCache<?>> ALL = new CopyOnWriteArrayList<>();
+
+    private final Function<RecipeManager, T> builder;
+    private final Map<RecipeManager, T> values = new WeakHashMap<>();
+    // Fast path for the common case of repeated lookups against the same manager
+    private volatile Snapshot<T> last;
+
+    public RecipeIndexCache(Function<RecipeManager, T> builder) {
+        this.builder = builder;
+        ALL.add(this);
+    }
+
+    /**
+     * Get the index for the given RecipeManager, building it if needed.
+     */
+    public T get(RecipeManager recipeManager) {
+        Snapshot<T> current = last;
+        if (current != null && current.recipeManager == recipeManager) {
+            return current.value;
+        }
+        synchronized (this) {
+            T value = values.computeIfAbsent(recipeManager, builder);
+            last = new Snapshot<>(recipeManager, value);
+            return value;
+        }
+    }
+
+    /**
+     * Drop the cached index. It will be rebuilt on next access.
+     */
+    public synchronized void invalidate() {
+        values.clear();
+        last = null;
+    }
+
+    /**
+     * Drop every registered index. Called when recipes or tags are reloaded.
+     */
+    public static void invalidateAll() {
+        for (RecipeIndexCache<?> cache : ALL) {
+            cache.invalidate();
+        }
+    }
+
+    private record Snapshot<T>(RecipeManager recipeManager, T value) {}
+}
@@ -16,7 +16,6 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.*;
 import net.minecraft.world.level.Level;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -73,24 +72,21 @@ public class WorkbenchRecipe implements Recipe<WorkbenchRecipe.WorkbenchInput> {
             }
         }
         
-        // Check materials - all requirements must be satisfied
-        List<ItemStack> availableMaterials = new ArrayList<>();
-        for (ItemStack stack : container.getMaterials()) {
-            if (!stack.isEmpty()) {
-                availableMaterials.add(stack.copy());
-            }
-        }
+        // Check materials - all requirements must be satisfied.
+        // Consumption is tracked in the input's scratch counts instead of shrinking copied stacks.
+        List<ItemStack> availableMaterials = container.getMaterials();
+        int[] remainingCounts = container.resetMaterialCounts();
         
         // Check each material requirement
         for (MaterialRequirement req : materials) {
             int remaining = req.count();
             
-            for (ItemStack stack : availableMaterials) {
+            for (int i = 0; i < remainingCounts.length; i++) {
                 if (remaining <= 0) break;
-                if (req.ingredient().test(stack)) {
-                    int consume = Math.min(remaining, stack.getCount());
+                if (remainingCounts[i] > 0 && req.ingredient().test(availableMaterials.get(i))) {
+                    int consume = Math.min(remaining, remainingCounts[i]);
                     remaining -= consume;
-                    stack.shrink(consume);
+                    remainingCounts[i] -= consume;
                 }
             }
             
@@ -100,8 +96,9 @@ public class WorkbenchRecipe implements Recipe<WorkbenchRecipe.WorkbenchInput> {
         }
         
         // Check no extra materials - all available materials should be matched by some requirement
-        for (ItemStack stack : availableMaterials) {
-            if (!stack.isEmpty()) {
+        for (int i = 0; i < remainingCounts.length; i++) {
+            if (remainingCounts[i] > 0) {
+                ItemStack stack = availableMaterials.get(i);
                 boolean matchesAnyReq = false;
                 for (MaterialRequirement req : materials) {
                     if (req.ingredient().test(stack)) {
@@ -126,21 +123,14 @@ public class WorkbenchRecipe implements Recipe<WorkbenchRecipe.WorkbenchInput> {
             return 0;
         }
         
-        // Collect available materials
-        List<ItemStack> availableMaterials = new ArrayList<>();
-        for (ItemStack stack : container.getMaterials()) {
-            if (!stack.isEmpty()) {
-                availableMaterials.add(stack.copy());
-            }
-        }
-        
+        List<ItemStack> availableMaterials = container.getMaterials();
         int maxCount = Integer.MAX_VALUE;
         
         // For each material requirement, calculate max craft count
         for (MaterialRequirement req : materials) {
             int totalAvailable = 0;
             for (ItemStack stack : availableMaterials) {
-                if (req.ingredient().test(stack)) {
+                if (!stack.isEmpty() && req.ingredient().test(stack)) {
                     totalAvailable += stack.getCount();
                 }
             }
@@ -235,20 +225,37 @@ public class WorkbenchRecipe implements Recipe<WorkbenchRecipe.WorkbenchInput> {
     
     /**
      * Input container for WorkbenchRecipe matching.
+     * 
+     * A read-only view over the workbench slots: stacks are not copied and must not be modified.
+     * Create it right before matching; it does not follow later changes to the material stack size.
      */
     public static class WorkbenchInput implements RecipeInput {
         
         private final ItemStack[] tools;
         private final ItemStack input;
         private final List<ItemStack> materials;
+        // Per-material remaining counts, reused by every recipe tested against this input
+        private final int[] materialCounts;
         
         public WorkbenchInput(WorkbenchBlockEntity workbench) {
             this.tools = new ItemStack[4];
             for (int i = 0; i < 4; i++) {
-                this.tools[i] = workbench.getToolAt(i);
+                this.tools[i] = workbench.viewToolAt(i);
+            }
+            this.input = workbench.viewInputItem();
+            this.materials = workbench.viewMaterials();
+            this.materialCounts = new int[materials.size()];
+        }
+        
+        /**
+         * Reset the scratch counts to the current material stack sizes (empty stacks count as 0).
+         */
+        int[] resetMaterialCounts() {
+            for (int i = 0; i < materialCounts.length; i++) {
+                ItemStack stack = materials.get(i);
+                materialCounts[i] = stack.isEmpty() ? 0 : stack.getCount();
             }
-            this.input = workbench.getInputItem();
-            this.materials = workbench.getMaterials();
+            return materialCounts;
         }
         
         public ItemStack getTool(int slot) {
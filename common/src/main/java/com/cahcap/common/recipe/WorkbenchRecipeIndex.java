@@ -0,0 +1,85 @@
+package com.cahcap.common.recipe;
+
+import com.cahcap.common.registry.ModRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lookup index from the Workbench center input item to candidate recipes, rebuilt whenever recipes are reloaded.
+ *
+ * Only recipes whose input ingredient accepts the center item are matched, instead of every Workbench recipe.
+ * Recipes whose input ingredient exposes no items are always tested.
+ * When several recipes match, the first one in RecipeManager order wins.
+ */
+public final class WorkbenchRecipeIndex {
+
+    private static final RecipeIndexCache<WorkbenchRecipeIndex> CACHE =
+            new RecipeIndexCache<>(WorkbenchRecipeIndex::build);
+
+    private final Map<Item, List<Entry>> byInputItem = new IdentityHashMap<>();
+    private final List<Entry> unindexed = new ArrayList<>();
+
+    private WorkbenchRecipeIndex() {}
+
+    public static WorkbenchRecipeIndex get(RecipeManager recipeManager) {
+        return CACHE.get(recipeManager);
+    }
+
+    /**
+     * Find the first recipe matching the given workbench input.
+     */
+    public Optional<RecipeHolder<WorkbenchRecipe>> findMatch(WorkbenchRecipe.WorkbenchInput input, Level level) {
+        ItemStack center = input.getInput();
+        List<Entry> candidates = center.isEmpty() ? List.of() : byInputItem.getOrDefault(center.getItem(), List.of());
+
+        // Merge both ordinal-sorted lists so RecipeManager order is preserved
+        int i = 0;
+        int j = 0;
+        while (i < candidates.size() || j < unindexed.size()) {
+            Entry entry;
+            if (j >= unindexed.size() || (i < candidates.size() && candidates.get(i).ordinal < unindexed.get(j).ordinal)) {
+                entry = candidates.get(i++);
+            } else {
+                entry = unindexed.get(j++);
+            }
+            if (entry.holder.value().matches(input, level)) {
+                return Optional.of(entry.holder);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static WorkbenchRecipeIndex build(RecipeManager recipeManager) {
+        WorkbenchRecipeIndex index = new WorkbenchRecipeIndex();
+        int ordinal = 0;
+        for (RecipeHolder<WorkbenchRecipe> holder :
+                recipeManager.getAllRecipesFor(ModRegistries.WORKBENCH_RECIPE_TYPE.get())) {
+            Entry entry = new Entry(holder, ordinal++);
+            boolean indexed = false;
+            for (ItemStack stack : holder.value().getInput().getItems()) {
+                if (stack.isEmpty()) continue;
+                List<Entry> list = index.byInputItem.computeIfAbsent(stack.getItem(), k -> new ArrayList<>());
+                // Tags may list the same item more than once
+                if (list.isEmpty() || list.get(list.size() - 1) != entry) {
+                    list.add(entry);
+                }
+                indexed = true;
+            }
+            if (!indexed) {
+                index.unindexed.add(entry);
+            }
+        }
+        return index;
+    }
+
+    private record Entry(RecipeHolder<WorkbenchRecipe> holder, int ordinal) {}
+}
@@ -1,6 +1,10 @@
 package com.cahcap.common.registry;
 
 import com.cahcap.common.entity.FlowweaveProjectile;
+import com.cahcap.common.item.component.FlowweaveBinding;
+import com.cahcap.common.item.component.HerbBoxContents;
+import com.cahcap.common.item.component.PotContents;
+import com.cahcap.common.item.flowweavering.FlowweaveRingItem;
 import com.cahcap.common.recipe.CauldronBrewingRecipe;
 import com.cahcap.common.recipe.CauldronInfusingRecipe;
 import com.cahcap.common.recipe.HerbalBlendingRecipe;
@@ -11,6 +15,7 @@ import com.cahcap.common.recipe.KilnSmeltingRecipe;
 import com.cahcap.common.recipe.ObeliskOfferingRecipe;
 import com.cahcap.common.recipe.WorkbenchRecipe;
 import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponentType;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.item.ArmorMaterial;
 import net.minecraft.world.item.Item;
@@ -147,5 +152,11 @@ public class ModRegistries {
 
     // ==================== Entity Types ====================
     public static Supplier<EntityType<FlowweaveProjectile>> FLOWWEAVE_PROJECTILE_TYPE;
+
+    // ==================== Data Components ====================
+    public static Supplier<DataComponentType<FlowweaveBinding>> FLOWWEAVE_BINDING;
+    public static Supplier<DataComponentType<FlowweaveRingItem.CastingMode>> CASTING_MODE;
+    public static Supplier<DataComponentType<PotContents>> POT_CONTENTS;
+    public static Supplier<DataComponentType<HerbBoxContents>> HERB_BOX_CONTENTS;
 }
 
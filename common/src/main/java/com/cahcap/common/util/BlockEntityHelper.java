@@ -1,10 +1,18 @@
 package com.cahcap.common.util;
 
+import com.cahcap.common.network.NetworkHelper;
+import com.cahcap.common.network.ProgressSyncable;
+import com.cahcap.common.network.SyncStats;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
 
 /**
  * Shared utilities for BlockEntity operations.
@@ -12,19 +20,93 @@ import java.util.UUID;
  */
 public final class BlockEntityHelper {
 
+    // Block entities waiting for a client sync, per server level (server thread only)
+    private static final Map<Level, Set<BlockEntity>> PENDING_SYNCS = new WeakHashMap<>();
+    // Block entities waiting for a progress-only sync, per server level (server thread only)
+    private static final Map<Level, Set<BlockEntity>> PENDING_PROGRESS = new WeakHashMap<>();
+
     private BlockEntityHelper() {}
 
     /**
      * Sync block entity data to all tracking clients.
      * Replacement for duplicated syncToClient() in multiple BEs.
+     *
+     * The block entity is marked changed immediately, but the update packet is deferred to
+     * {@link #flushPendingSyncs()} at the end of the server tick, so repeated calls within
+     * one tick send a single packet with the final state.
      */
     public static void syncToClient(BlockEntity be) {
         Level level = be.getLevel();
         if (level != null && !level.isClientSide) {
-            BlockState state = level.getBlockState(be.getBlockPos());
-            level.sendBlockUpdated(be.getBlockPos(), state, state, 3);
             be.setChanged();
+            PENDING_SYNCS.computeIfAbsent(level, k -> new LinkedHashSet<>()).add(be);
+        }
+    }
+
+    /**
+     * Sync only the progress fields of the block entity to tracking clients.
+     * Use for periodic timer/progress updates; anything else needs {@link #syncToClient(BlockEntity)}.
+     * Deferred like full syncs, and skipped if a full sync of the same block entity is sent in the same tick.
+     */
+    public static <T extends BlockEntity & ProgressSyncable> void syncProgressToClient(T be) {
+        Level level = be.getLevel();
+        if (level != null && !level.isClientSide) {
+            be.setChanged();
+            if (NetworkHelper.INSTANCE == null) {
+                syncToClient(be);
+                return;
+            }
+            PENDING_PROGRESS.computeIfAbsent(level, k -> new LinkedHashSet<>()).add(be);
+        }
+    }
+
+    /**
+     * Send one update packet for every block entity synced since the last flush.
+     * Called by the platform module once at the end of each server tick.
+     */
+    public static void flushPendingSyncs() {
+        if (PENDING_SYNCS.isEmpty() && PENDING_PROGRESS.isEmpty()) return;
+        boolean countBytes = SyncStats.isEnabled();
+        for (Level level : PENDING_SYNCS.keySet().toArray(new Level[0])) {
+            Set<BlockEntity> pending = PENDING_SYNCS.get(level);
+            if (pending == null || pending.isEmpty()) continue;
+            // Copy first: sending may cause further syncs, which then go out next tick
+            BlockEntity[] toSync = pending.toArray(new BlockEntity[0]);
+            pending.clear();
+            Set<BlockEntity> progress = PENDING_PROGRESS.get(level);
+            for (BlockEntity be : toSync) {
+                // The full update already carries the progress fields
+                if (progress != null) progress.remove(be);
+                if (be.isRemoved() || be.getLevel() != level) continue;
+                BlockState state = level.getBlockState(be.getBlockPos());
+                level.sendBlockUpdated(be.getBlockPos(), state, state, 3);
+                if (countBytes) {
+                    SyncStats.recordFull(be.getType(), be.getUpdateTag(level.registryAccess()).sizeInBytes());
+                }
+            }
         }
+        for (Level level : PENDING_PROGRESS.keySet().toArray(new Level[0])) {
+            Set<BlockEntity> pending = PENDING_PROGRESS.get(level);
+            if (pending == null || pending.isEmpty() || !(level instanceof ServerLevel serverLevel)) continue;
+            BlockEntity[] toSync = pending.toArray(new BlockEntity[0]);
+            pending.clear();
+            for (BlockEntity be : toSync) {
+                if (be.isRemoved() || be.getLevel() != level) continue;
+                int bytes = NetworkHelper.INSTANCE.sendProgress(serverLevel, be.getBlockPos(),
+                        ((ProgressSyncable) be).writeProgress());
+                if (countBytes) {
+                    SyncStats.recordProgress(be.getType(), bytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop all pending syncs without sending them (server shutdown).
+     */
+    public static void clearPendingSyncs() {
+        PENDING_SYNCS.clear();
+        PENDING_PROGRESS.clear();
     }
 
     /**
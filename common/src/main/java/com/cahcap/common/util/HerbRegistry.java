@@ -3,6 +3,12 @@ package com.cahcap.common.util;
 import com.cahcap.common.registry.ModRegistries;
 import net.minecraft.world.item.Item;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -31,48 +37,69 @@ public final class HerbRegistry {
         () -> ModRegistries.STELLAR_MOTE.get()
     };
 
+    private static final Map<String, Integer> INDEX_BY_KEY = new HashMap<>();
+
+    static {
+        for (int i = 0; i < HERB_KEYS.length; i++) {
+            INDEX_BY_KEY.put(HERB_KEYS[i], i);
+        }
+    }
+
+    // Resolved herb items, built on first use (after registration)
+    private static volatile Lookup lookup;
+
     private HerbRegistry() {}
 
+    private static Lookup lookup() {
+        Lookup current = lookup;
+        if (current == null) {
+            current = new Lookup();
+            lookup = current;
+        }
+        return current;
+    }
+
     public static int getHerbCount() {
         return HERB_KEYS.length;
     }
 
+    /**
+     * Returns a new array of all herb items.
+     * @deprecated use the cached {@link #getHerbItems()} list or {@link #getHerbByIndex(int)}
+     */
+    @Deprecated
     public static Item[] getAllHerbItems() {
-        Item[] herbs = new Item[HERB_SUPPLIERS.length];
-        for (int i = 0; i < HERB_SUPPLIERS.length; i++) {
-            herbs[i] = HERB_SUPPLIERS[i].get();
-        }
-        return herbs;
+        return lookup().herbs.clone();
+    }
+
+    /**
+     * All herb items in index order, as a shared read-only list.
+     */
+    public static List<Item> getHerbItems() {
+        return lookup().herbList;
     }
 
     public static boolean isHerb(Item item) {
-        for (Supplier<Item> supplier : HERB_SUPPLIERS) {
-            if (supplier.get() == item) {
-                return true;
-            }
-        }
-        return false;
+        return getHerbIndex(item) >= 0;
     }
 
     public static boolean isOverworldHerb(Item item) {
-        return item == HERB_SUPPLIERS[0].get() || // scaleplate
-               item == HERB_SUPPLIERS[1].get() || // dewpetal
-               item == HERB_SUPPLIERS[2].get();   // zephyr_blossom
+        int index = getHerbIndex(item);
+        return index >= 0 && index <= 2; // scaleplate, dewpetal, zephyr_blossom
     }
 
     public static boolean isNetherOrEndHerb(Item item) {
-        return item == HERB_SUPPLIERS[3].get() || // cryst_spine
-               item == HERB_SUPPLIERS[4].get() || // pyro_node
-               item == HERB_SUPPLIERS[5].get();   // stellar_mote
+        return getHerbIndex(item) >= 3; // cryst_spine, pyro_node, stellar_mote
     }
 
     public static int getHerbIndex(Item herb) {
-        for (int i = 0; i < HERB_SUPPLIERS.length; i++) {
-            if (HERB_SUPPLIERS[i].get() == herb) {
-                return i;
-            }
-        }
-        return -1;
+        Integer index = lookup().indexByItem.get(herb);
+        return index != null ? index : -1;
+    }
+
+    public static int getHerbIndexByKey(String key) {
+        Integer index = INDEX_BY_KEY.get(key);
+        return index != null ? index : -1;
     }
 
     public static String getKeyForHerb(Item herb) {
@@ -81,18 +108,22 @@ public final class HerbRegistry {
     }
 
     public static Item getHerbByKey(String key) {
-        for (int i = 0; i < HERB_KEYS.length; i++) {
-            if (HERB_KEYS[i].equals(key)) {
-                return HERB_SUPPLIERS[i].get();
-            }
-        }
-        return null;
+        Integer index = INDEX_BY_KEY.get(key);
+        return index != null ? lookup().herbs[index] : null;
     }
 
+    /**
+     * Resolve a herb from a key containing its name, e.g. a registry id like "herbalcurative:dewpetal".
+     */
     public static Item getHerbByKeyContains(String key) {
+        // Registry ids (the format written by NBT saves) resolve with a single map probe
+        Integer exact = INDEX_BY_KEY.get(key.substring(key.indexOf(':') + 1));
+        if (exact != null) {
+            return lookup().herbs[exact];
+        }
         for (int i = 0; i < HERB_KEYS.length; i++) {
             if (key.contains(HERB_KEYS[i])) {
-                return HERB_SUPPLIERS[i].get();
+                return lookup().herbs[i];
             }
         }
         return null;
@@ -113,7 +144,7 @@ public final class HerbRegistry {
         if (index < 0 || index >= HERB_SUPPLIERS.length) {
             return null;
         }
-        return HERB_SUPPLIERS[index].get();
+        return lookup().herbs[index];
     }
 
     /**
@@ -140,4 +171,21 @@ public final class HerbRegistry {
         }
         return totalAdded;
     }
+
+    /**
+     * Herb items resolved from their suppliers, with an identity index for membership checks.
+     */
+    private static final class Lookup {
+        private final Item[] herbs = new Item[HERB_SUPPLIERS.length];
+        private final List<Item> herbList;
+        private final Map<Item, Integer> indexByItem = new IdentityHashMap<>();
+
+        private Lookup() {
+            for (int i = 0; i < HERB_SUPPLIERS.length; i++) {
+                herbs[i] = HERB_SUPPLIERS[i].get();
+                indexByItem.put(herbs[i], i);
+            }
+            herbList = Collections.unmodifiableList(Arrays.asList(herbs));
+        }
+    }
 }
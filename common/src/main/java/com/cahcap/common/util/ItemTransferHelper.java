@@ -2,9 +2,11 @@ package com.cahcap.common.util;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 /**
@@ -13,6 +15,7 @@ import java.util.function.Predicate;
  * supporting any mod container (vanilla chests, drawers, pipes, herb cabinets, etc).
  *
  * Usage: ItemTransferHelper.INSTANCE.extractItem(...)
+ * Block entities polling the same neighbour repeatedly should hold a {@link Connection} instead.
  */
 public final class ItemTransferHelper {
 
@@ -41,6 +44,63 @@ public final class ItemTransferHelper {
          * @return Remainder that could not be inserted, or EMPTY if fully inserted
          */
         ItemStack insertItem(Level level, BlockPos pos, Direction accessSide, ItemStack stack);
+
+        /**
+         * Open a cached connection to the container at the given position.
+         * @param level        The world
+         * @param pos          Position of the container
+         * @param accessSide   The side to access the container from
+         * @param isValid      Whether the owner still needs the connection (e.g. not removed)
+         * @param onInvalidate Called when the container appears, disappears or changes
+         */
+        Connection connect(ServerLevel level, BlockPos pos, Direction accessSide,
+                           BooleanSupplier isValid, Runnable onInvalidate);
+    }
+
+    /**
+     * Cached access to one side of one container; the lookup is only redone after it is invalidated.
+     */
+    public interface Connection {
+        BlockPos pos();
+
+        Direction accessSide();
+
+        /**
+         * Extract up to maxCount items in one call, pulling from as many slots as needed.
+         * The first slot accepted by the filter decides the item; later slots only contribute
+         * stacks of the same item and components. The total never exceeds that item's max stack size.
+         */
+        ExtractResult extract(int maxCount, Predicate<ItemStack> filter);
+
+        /**
+         * Insert the stack across as many slots as needed.
+         * @return Remainder that could not be inserted, or EMPTY if fully inserted
+         */
+        ItemStack insert(ItemStack stack);
+    }
+
+    public enum Status {
+        MOVED,
+        /** A container is attached but had nothing the filter accepted */
+        NOTHING_AVAILABLE,
+        /** No item container at the position (or on that side) */
+        NO_CONTAINER
+    }
+
+    /**
+     * Outcome of a bulk extraction. The unsuccessful results are shared constants.
+     */
+    public record ExtractResult(Status status, ItemStack stack) {
+        public static final ExtractResult NOTHING_AVAILABLE = new ExtractResult(Status.NOTHING_AVAILABLE, ItemStack.EMPTY);
+        public static final ExtractResult NO_CONTAINER = new ExtractResult(Status.NO_CONTAINER, ItemStack.EMPTY);
+
+        public static ExtractResult moved(ItemStack stack) {
+            return new ExtractResult(Status.MOVED, stack);
+        }
+
+        public boolean moved() {
+            return status == Status.MOVED;
+        }
     }
 
     private ItemTransferHelper() {}
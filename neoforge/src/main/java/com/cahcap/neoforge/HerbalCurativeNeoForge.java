@@ -22,6 +22,10 @@ public class HerbalCurativeNeoForge {
         
         modEventBus.addListener(this::commonSetup);
         
+        // Register config and expose its values to the common module
+        modContainer.registerConfig(ModConfig.Type.COMMON, NeoForgeConfig.SPEC);
+        NeoForgeConfig.bind();
+        
         // Register armor materials BEFORE items (items depend on armor materials)
         ModArmorMaterials.register(modEventBus);
         
@@ -31,6 +35,7 @@ public class HerbalCurativeNeoForge {
         ModCreativeTabs.TABS.register(modEventBus);
         ModBlockEntities.BLOCK_ENTITIES.register(modEventBus);
         ModEntityTypes.ENTITY_TYPES.register(modEventBus);
+        ModDataComponents.DATA_COMPONENTS.register(modEventBus);
         ModMenuTypes.MENU_TYPES.register(modEventBus);
         ModSounds.SOUNDS.register(modEventBus);
         ModFeatures.FEATURES.register(modEventBus);
@@ -61,6 +66,10 @@ public class HerbalCurativeNeoForge {
         com.cahcap.common.util.ItemTransferHelper.INSTANCE =
                 new com.cahcap.neoforge.common.handler.NeoForgeItemTransferHelper();
 
+        // Initialize platform network helper for custom payloads
+        com.cahcap.common.network.NetworkHelper.INSTANCE =
+                new com.cahcap.neoforge.common.network.NeoForgeNetworkHelper();
+
         HerbalCurativeCommon.commonSetup();
         LOGGER.info("Herbal Curative NeoForge common setup complete");
     }
@@ -1,10 +1,66 @@
 package com.cahcap.neoforge;
 
+import com.cahcap.common.config.CommonConfig;
 import net.neoforged.neoforge.common.ModConfigSpec;
 
 public class NeoForgeConfig {
     private static final ModConfigSpec.Builder BUILDER = new ModConfigSpec.Builder();
 
+    // ==================== Cauldron ====================
+
+    static {
+        BUILDER.push("cauldron");
+    }
+
+    public static final ModConfigSpec.IntValue CAULDRON_ITEM_INTAKE_INTERVAL = BUILDER
+            .comment("Ticks between checks for items thrown into a filled cauldron (1 = every tick)")
+            .defineInRange("itemIntakeInterval", 4, 1, 100);
+
+    static {
+        BUILDER.pop();
+    }
+
+    // ==================== Kiln ====================
+
+    static {
+        BUILDER.push("kiln");
+    }
+
+    public static final ModConfigSpec.IntValue KILN_AUTO_IO_MAX_INTERVAL = BUILDER
+            .comment("Maximum ticks between auto I/O polls of a kiln side that has had nothing to move (polls start every 10 ticks and double while idle)")
+            .defineInRange("autoIoMaxInterval", 160, 10, 1200);
+
+    static {
+        BUILDER.pop();
+    }
+
+    // ==================== Debug ====================
+
+    static {
+        BUILDER.push("debug");
+    }
+
+    public static final ModConfigSpec.BooleanValue COUNT_SYNC_BYTES = BUILDER
+            .comment("Count client sync bytes per block entity type and log the totals when the server stops")
+            .define("countSyncBytes", false);
+
+    public static final ModConfigSpec.BooleanValue LOG_EFFECT_PACKETS = BUILDER
+            .comment("Log the number of visual effect packets (Flowweave bursts, cauldron splashes) sent each second")
+            .define("logEffectPackets", false);
+
+    static {
+        BUILDER.pop();
+    }
+
     public static final ModConfigSpec SPEC = BUILDER.build();
-}
 
+    /**
+     * Point the common config references at the values of this spec.
+     */
+    public static void bind() {
+        CommonConfig.CAULDRON_ITEM_INTAKE_INTERVAL = CAULDRON_ITEM_INTAKE_INTERVAL;
+        CommonConfig.KILN_AUTO_IO_MAX_INTERVAL = KILN_AUTO_IO_MAX_INTERVAL;
+        CommonConfig.COUNT_SYNC_BYTES = COUNT_SYNC_BYTES;
+        CommonConfig.LOG_EFFECT_PACKETS = LOG_EFFECT_PACKETS;
+    }
+}
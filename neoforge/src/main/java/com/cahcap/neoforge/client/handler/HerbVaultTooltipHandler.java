@@ -76,7 +76,7 @@ public class HerbVaultTooltipHandler extends TooltipHandler {
             return false;
         }
 
-        herb = HerbRegistry.getAllHerbItems()[herbIndex];
+        herb = HerbRegistry.getHerbByIndex(herbIndex);
         amount = vault.getHerbAmount(herb);
         return herb != null && amount > 0;
     }
@@ -0,0 +1,21 @@
+package com.cahcap.neoforge.client.handler;
+
+import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.recipe.RecipeIndexCache;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RecipesUpdatedEvent;
+
+/**
+ * Client-side counterpart of RecipeReloadHandler.
+ * The client RecipeManager instance is reused across recipe syncs, so indexes are dropped explicitly.
+ */
+@EventBusSubscriber(modid = HerbalCurativeCommon.MOD_ID, value = Dist.CLIENT)
+public class RecipeSyncHandler {
+
+    @SubscribeEvent
+    public static void onRecipesUpdated(RecipesUpdatedEvent event) {
+        RecipeIndexCache.invalidateAll();
+    }
+}
@@ -0,0 +1,35 @@
+package com.cahcap.neoforge.common.handler;
+
+import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.network.SyncStats;
+import com.cahcap.common.util.BlockEntityHelper;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+/**
+ * Flushes block entity client syncs collected during the server tick.
+ * Runs after all levels and player packets were processed, so each block entity sends one update per tick.
+ * With the countSyncBytes debug option on, the per-type traffic totals are logged when the server stops.
+ */
+@EventBusSubscriber(modid = HerbalCurativeCommon.MOD_ID)
+public class BlockEntitySyncHandler {
+
+    @SubscribeEvent
+    public static void onServerTickPost(ServerTickEvent.Post event) {
+        BlockEntityHelper.flushPendingSyncs();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        BlockEntityHelper.clearPendingSyncs();
+        if (SyncStats.isEnabled()) {
+            HerbalCurativeCommon.LOGGER.info("Block entity sync traffic since server start:");
+            for (String line : SyncStats.report()) {
+                HerbalCurativeCommon.LOGGER.info("  {}", line);
+            }
+        }
+        SyncStats.reset();
+    }
+}
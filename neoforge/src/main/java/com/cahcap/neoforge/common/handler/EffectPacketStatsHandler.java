@@ -0,0 +1,38 @@
+package com.cahcap.neoforge.common.handler;
+
+import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.network.EffectPacketStats;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.List;
+
+/**
+ * Closes the visual-effect packet counters every second of server ticks.
+ * With the logEffectPackets debug option on, each busy second and the totals at server stop are logged.
+ */
+@EventBusSubscriber(modid = HerbalCurativeCommon.MOD_ID)
+public class EffectPacketStatsHandler {
+
+    @SubscribeEvent
+    public static void onServerTickPost(ServerTickEvent.Post event) {
+        if (event.getServer().getTickCount() % 20 != 0) return;
+        List<String> sent = EffectPacketStats.endSecond();
+        if (!sent.isEmpty() && EffectPacketStats.isLoggingEnabled()) {
+            HerbalCurativeCommon.LOGGER.info("Effect packets in the last second: {}", String.join(", ", sent));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        if (EffectPacketStats.isLoggingEnabled()) {
+            HerbalCurativeCommon.LOGGER.info("Effect packets since server start:");
+            for (String line : EffectPacketStats.report()) {
+                HerbalCurativeCommon.LOGGER.info("  {}", line);
+            }
+        }
+        EffectPacketStats.reset();
+    }
+}
@@ -8,7 +8,7 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * IItemHandler implementation for HerbVaultBlockEntity.
- * Delegates to the vault's ItemHandlerCallback.
+ * Delegates to the vault's ItemHandlerCallback; getStackInSlot returns shared views that must not be modified.
  */
 public class HerbVaultItemHandler implements IItemHandler {
 
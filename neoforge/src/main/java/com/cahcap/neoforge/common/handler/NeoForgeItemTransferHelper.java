@@ -3,11 +3,14 @@ package com.cahcap.neoforge.common.handler;
 import com.cahcap.common.util.ItemTransferHelper;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.items.IItemHandler;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 /**
@@ -22,26 +25,56 @@ public class NeoForgeItemTransferHelper implements ItemTransferHelper.Provider {
                                   Predicate<ItemStack> filter) {
         IItemHandler handler = level.getCapability(Capabilities.ItemHandler.BLOCK, pos, accessSide);
         if (handler == null) return ItemStack.EMPTY;
-
-        for (int i = 0; i < handler.getSlots(); i++) {
-            ItemStack stack = handler.getStackInSlot(i);
-            if (stack.isEmpty() || !filter.test(stack)) continue;
-
-            int toExtract = Math.min(stack.getCount(), maxCount);
-            ItemStack extracted = handler.extractItem(i, toExtract, false);
-            if (!extracted.isEmpty()) {
-                return extracted;
-            }
-        }
-
-        return ItemStack.EMPTY;
+        return extractBulk(handler, maxCount, filter).stack();
     }
 
     @Override
     public ItemStack insertItem(Level level, BlockPos pos, Direction accessSide, ItemStack stack) {
         IItemHandler handler = level.getCapability(Capabilities.ItemHandler.BLOCK, pos, accessSide);
         if (handler == null) return stack;
+        return insertAll(handler, stack);
+    }
+
+    @Override
+    public ItemTransferHelper.Connection connect(ServerLevel level, BlockPos pos, Direction accessSide,
+                                                 BooleanSupplier isValid, Runnable onInvalidate) {
+        return new CachedConnection(BlockCapabilityCache.create(
+                Capabilities.ItemHandler.BLOCK, level, pos, accessSide, isValid, onInvalidate));
+    }
+
+    /**
+     * Extract up to maxCount items of the first accepted kind, across as many slots as needed.
+     */
+    private static ItemTransferHelper.ExtractResult extractBulk(IItemHandler handler, int maxCount,
+                                                                Predicate<ItemStack> filter) {
+        ItemStack result = ItemStack.EMPTY;
+        int remaining = maxCount;
+        for (int i = 0; i < handler.getSlots() && remaining > 0; i++) {
+            ItemStack stack = handler.getStackInSlot(i);
+            if (stack.isEmpty()) continue;
+            if (result.isEmpty()) {
+                if (!filter.test(stack)) continue;
+                remaining = Math.min(remaining, stack.getMaxStackSize());
+            } else if (!ItemStack.isSameItemSameComponents(result, stack)) {
+                continue;
+            }
+
+            ItemStack extracted = handler.extractItem(i, Math.min(remaining, stack.getCount()), false);
+            if (extracted.isEmpty()) continue;
 
+            if (result.isEmpty()) {
+                result = extracted;
+            } else {
+                result.grow(extracted.getCount());
+            }
+            remaining -= extracted.getCount();
+        }
+        return result.isEmpty()
+                ? ItemTransferHelper.ExtractResult.NOTHING_AVAILABLE
+                : ItemTransferHelper.ExtractResult.moved(result);
+    }
+
+    private static ItemStack insertAll(IItemHandler handler, ItemStack stack) {
         ItemStack remaining = stack.copy();
         for (int i = 0; i < handler.getSlots(); i++) {
             remaining = handler.insertItem(i, remaining, false);
@@ -49,7 +82,38 @@ public class NeoForgeItemTransferHelper implements ItemTransferHelper.Provider {
                 return ItemStack.EMPTY;
             }
         }
-
         return remaining;
     }
+
+    /**
+     * Connection backed by a BlockCapabilityCache, so the capability is only looked up again after
+     * the neighbour changes (NeoForge then also notifies the owner through the invalidation listener).
+     */
+    private record CachedConnection(BlockCapabilityCache<IItemHandler, Direction> cache)
+            implements ItemTransferHelper.Connection {
+
+        @Override
+        public BlockPos pos() {
+            return cache.pos();
+        }
+
+        @Override
+        public Direction accessSide() {
+            return cache.context();
+        }
+
+        @Override
+        public ItemTransferHelper.ExtractResult extract(int maxCount, Predicate<ItemStack> filter) {
+            IItemHandler handler = cache.getCapability();
+            if (handler == null) return ItemTransferHelper.ExtractResult.NO_CONTAINER;
+            return extractBulk(handler, maxCount, filter);
+        }
+
+        @Override
+        public ItemStack insert(ItemStack stack) {
+            IItemHandler handler = cache.getCapability();
+            if (handler == null) return stack;
+            return insertAll(handler, stack);
+        }
+    }
 }
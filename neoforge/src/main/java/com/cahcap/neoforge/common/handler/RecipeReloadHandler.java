@@ -0,0 +1,21 @@
+package com.cahcap.neoforge.common.handler;
+
+import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.recipe.RecipeIndexCache;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+/**
+ * Drops recipe-derived lookup indexes after a datapack reload.
+ * TagsUpdatedEvent fires once recipes and tags are both applied (server reload and client sync),
+ * so tag-based ingredients resolve correctly when the indexes are rebuilt.
+ */
+@EventBusSubscriber(modid = HerbalCurativeCommon.MOD_ID)
+public class RecipeReloadHandler {
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        RecipeIndexCache.invalidateAll();
+    }
+}
@@ -0,0 +1,49 @@
+package com.cahcap.neoforge.common.network;
+
+import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.network.ProgressSyncable;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Progress-only update for a block entity: its position and the ints from {@link ProgressSyncable#writeProgress()}.
+ */
+public record BlockEntityProgressPayload(BlockPos pos, int[] values) implements CustomPacketPayload {
+
+    public static final Type<BlockEntityProgressPayload> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(HerbalCurativeCommon.MOD_ID, "block_entity_progress"));
+
+    public static final StreamCodec<FriendlyByteBuf, BlockEntityProgressPayload> STREAM_CODEC = StreamCodec.of(
+            (buf, payload) -> {
+                buf.writeBlockPos(payload.pos);
+                buf.writeVarIntArray(payload.values);
+            },
+            buf -> new BlockEntityProgressPayload(buf.readBlockPos(), buf.readVarIntArray()));
+
+    /**
+     * Encoded size in bytes (payload body, without the channel id).
+     */
+    public int sizeInBytes() {
+        int size = Long.BYTES + VarInt.getByteSize(values.length);
+        for (int value : values) {
+            size += VarInt.getByteSize(value);
+        }
+        return size;
+    }
+
+    public static void handle(BlockEntityProgressPayload payload, IPayloadContext context) {
+        if (context.player().level().getBlockEntity(payload.pos) instanceof ProgressSyncable syncable) {
+            syncable.readProgress(payload.values);
+        }
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
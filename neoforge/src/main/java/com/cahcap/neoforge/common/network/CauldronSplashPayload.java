@@ -0,0 +1,33 @@
+package com.cahcap.neoforge.common.network;
+
+import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.blockentity.cauldron.CauldronBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Item splash in a cauldron, identified by its master position.
+ * Replaces the 25 individual particle packets previously sent per splash.
+ */
+public record CauldronSplashPayload(BlockPos masterPos) implements CustomPacketPayload {
+
+    public static final Type<CauldronSplashPayload> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(HerbalCurativeCommon.MOD_ID, "cauldron_splash"));
+
+    public static final StreamCodec<FriendlyByteBuf, CauldronSplashPayload> STREAM_CODEC = StreamCodec.of(
+            (buf, payload) -> buf.writeBlockPos(payload.masterPos),
+            buf -> new CauldronSplashPayload(buf.readBlockPos()));
+
+    public static void handle(CauldronSplashPayload payload, IPayloadContext context) {
+        CauldronBlockEntity.spawnSplashParticles(context.player().level(), payload.masterPos);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,38 @@
+package com.cahcap.neoforge.common.network;
+
+import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.entity.FlowweaveProjectile;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Flowweave projectile explosion: where it happened, how large and in which color.
+ * Replaces the ~70 individual particle packets previously sent per player.
+ */
+public record FlowweaveBurstPayload(Vec3 pos, float radius, int color) implements CustomPacketPayload {
+
+    public static final Type<FlowweaveBurstPayload> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(HerbalCurativeCommon.MOD_ID, "flowweave_burst"));
+
+    public static final StreamCodec<FriendlyByteBuf, FlowweaveBurstPayload> STREAM_CODEC = StreamCodec.of(
+            (buf, payload) -> {
+                buf.writeVec3(payload.pos);
+                buf.writeFloat(payload.radius);
+                buf.writeInt(payload.color);
+            },
+            buf -> new FlowweaveBurstPayload(buf.readVec3(), buf.readFloat(), buf.readInt()));
+
+    public static void handle(FlowweaveBurstPayload payload, IPayloadContext context) {
+        FlowweaveProjectile.spawnExplosionParticles(context.player().level(),
+                payload.pos.x, payload.pos.y, payload.pos.z, payload.radius, payload.color);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,36 @@
+package com.cahcap.neoforge.common.network;
+
+import com.cahcap.HerbalCurativeCommon;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+/**
+ * Registers the mod's custom network payloads
+ */
+@EventBusSubscriber(modid = HerbalCurativeCommon.MOD_ID, bus = EventBusSubscriber.Bus.MOD)
+public class ModPayloads {
+
+    private static final String PROTOCOL_VERSION = "1";
+
+    @SubscribeEvent
+    public static void registerPayloads(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+
+        registrar.playToClient(
+                BlockEntityProgressPayload.TYPE,
+                BlockEntityProgressPayload.STREAM_CODEC,
+                BlockEntityProgressPayload::handle);
+
+        registrar.playToClient(
+                FlowweaveBurstPayload.TYPE,
+                FlowweaveBurstPayload.STREAM_CODEC,
+                FlowweaveBurstPayload::handle);
+
+        registrar.playToClient(
+                CauldronSplashPayload.TYPE,
+                CauldronSplashPayload.STREAM_CODEC,
+                CauldronSplashPayload::handle);
+    }
+}
@@ -0,0 +1,51 @@
+package com.cahcap.neoforge.common.network;
+
+import com.cahcap.common.network.NetworkHelper;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.List;
+
+/**
+ * NeoForge implementation of NetworkHelper.Provider.
+ */
+public class NeoForgeNetworkHelper implements NetworkHelper.Provider {
+
+    @Override
+    public int sendProgress(ServerLevel level, BlockPos pos, int[] values) {
+        BlockEntityProgressPayload payload = new BlockEntityProgressPayload(pos.immutable(), values);
+        PacketDistributor.sendToPlayersTrackingChunk(level, new ChunkPos(pos), payload);
+        return payload.sizeInBytes();
+    }
+
+    @Override
+    public int sendFlowweaveBurst(ServerLevel level, Vec3 pos, float radius, int color) {
+        return sendToPlayersTrackingChunk(level, new ChunkPos(BlockPos.containing(pos)),
+                new FlowweaveBurstPayload(pos, radius, color));
+    }
+
+    @Override
+    public int sendCauldronSplash(ServerLevel level, BlockPos masterPos) {
+        return sendToPlayersTrackingChunk(level, new ChunkPos(masterPos), new CauldronSplashPayload(masterPos.immutable()));
+    }
+
+    /**
+     * Sends a single payload the way PacketDistributor.sendToPlayersTrackingChunk does, reusing its tracking list for
+     * the returned recipient count.
+     */
+    private static int sendToPlayersTrackingChunk(ServerLevel level, ChunkPos chunkPos, CustomPacketPayload payload) {
+        List<ServerPlayer> players = level.getChunkSource().chunkMap.getPlayers(chunkPos, false);
+        if (players.isEmpty()) return 0;
+        ClientboundCustomPayloadPacket packet = new ClientboundCustomPayloadPacket(payload);
+        for (ServerPlayer player : players) {
+            player.connection.send(packet);
+        }
+        return players.size();
+    }
+}
@@ -0,0 +1,41 @@
+package com.cahcap.neoforge.common.registry;
+
+import com.cahcap.HerbalCurativeCommon;
+import com.cahcap.common.item.component.FlowweaveBinding;
+import com.cahcap.common.item.component.HerbBoxContents;
+import com.cahcap.common.item.component.PotContents;
+import com.cahcap.common.item.flowweavering.FlowweaveRingItem;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.registries.Registries;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+public class ModDataComponents {
+
+    public static final DeferredRegister.DataComponents DATA_COMPONENTS =
+            DeferredRegister.createDataComponents(Registries.DATA_COMPONENT_TYPE, HerbalCurativeCommon.MOD_ID);
+
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<FlowweaveBinding>> FLOWWEAVE_BINDING =
+            DATA_COMPONENTS.registerComponentType("flowweave_binding", builder -> builder
+                    .persistent(FlowweaveBinding.CODEC)
+                    .networkSynchronized(FlowweaveBinding.STREAM_CODEC)
+                    .cacheEncoding());
+
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<FlowweaveRingItem.CastingMode>> CASTING_MODE =
+            DATA_COMPONENTS.registerComponentType("casting_mode", builder -> builder
+                    .persistent(FlowweaveRingItem.CastingMode.CODEC)
+                    .networkSynchronized(FlowweaveRingItem.CastingMode.STREAM_CODEC)
+                    .cacheEncoding());
+
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<PotContents>> POT_CONTENTS =
+            DATA_COMPONENTS.registerComponentType("pot_contents", builder -> builder
+                    .persistent(PotContents.CODEC)
+                    .networkSynchronized(PotContents.STREAM_CODEC)
+                    .cacheEncoding());
+
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<HerbBoxContents>> HERB_BOX_CONTENTS =
+            DATA_COMPONENTS.registerComponentType("herb_box_contents", builder -> builder
+                    .persistent(HerbBoxContents.CODEC)
+                    .networkSynchronized(HerbBoxContents.STREAM_CODEC)
+                    .cacheEncoding());
+}
@@ -115,6 +115,12 @@ public class RegistryInit {
 
         // Entity Types
         ModRegistries.FLOWWEAVE_PROJECTILE_TYPE = () -> ModEntityTypes.FLOWWEAVE_PROJECTILE.get();
+
+        // Data Components
+        ModRegistries.FLOWWEAVE_BINDING = () -> ModDataComponents.FLOWWEAVE_BINDING.get();
+        ModRegistries.CASTING_MODE = () -> ModDataComponents.CASTING_MODE.get();
+        ModRegistries.POT_CONTENTS = () -> ModDataComponents.POT_CONTENTS.get();
+        ModRegistries.HERB_BOX_CONTENTS = () -> ModDataComponents.HERB_BOX_CONTENTS.get();
         
         // Recipe Types and Serializers
         ModRecipeTypes.initCommonReferences();